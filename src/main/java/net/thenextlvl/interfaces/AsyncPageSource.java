@@ -0,0 +1,44 @@
+package net.thenextlvl.interfaces;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Range;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a source of paginated content that loads its pages asynchronously.
+ * <p>
+ * While a page is loading, its content slots display the {@linkplain PaginatedInterface#fallback() fallback item}.
+ * When a newer page is requested before the previous one completed, the previous request is cancelled
+ * and its result discarded.
+ *
+ * @param <T> the type of the entries
+ * @see PaginatedInterface.Builder#content(AsyncPageSource)
+ * @since 0.6.0
+ */
+@FunctionalInterface
+public interface AsyncPageSource<T> {
+    /**
+     * Loads up to {@code limit} entries of this source, starting at the given offset.
+     *
+     * @param offset the index of the first entry
+     * @param limit  the maximum number of entries
+     * @return a future completing with the requested slice
+     * @since 0.6.0
+     */
+    @Contract(value = "_, _ -> new")
+    CompletableFuture<Slice<T>> fetch(@Range(from = 0, to = Integer.MAX_VALUE) int offset, @Range(from = 0, to = Integer.MAX_VALUE) int limit);
+
+    /**
+     * Represents a slice of entries loaded from an asynchronous page source.
+     *
+     * @param entries the entries within the requested window
+     * @param size    the total number of entries in the source
+     * @param <T>     the type of the entries
+     * @since 0.6.0
+     */
+    record Slice<T>(@Unmodifiable List<T> entries, @Range(from = 0, to = Integer.MAX_VALUE) int size) {
+    }
+}
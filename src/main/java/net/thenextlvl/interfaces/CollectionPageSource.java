@@ -0,0 +1,37 @@
+package net.thenextlvl.interfaces;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+final class CollectionPageSource<T> implements PageSource<T> {
+    private final Supplier<? extends Collection<? extends T>> supplier;
+
+    CollectionPageSource(final Supplier<? extends Collection<? extends T>> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public int size() {
+        return supplier.get().size();
+    }
+
+    @Override
+    public List<T> fetch(final int offset, final int limit) {
+        return fetch(supplier.get(), offset, limit);
+    }
+
+    AsyncPageSource.Slice<T> slice(final int offset, final int limit) {
+        // the supplier may build its collection on every call, so a window reads it only once
+        final var collection = supplier.get();
+        return new AsyncPageSource.Slice<>(fetch(collection, offset, limit), collection.size());
+    }
+
+    private static <T> List<T> fetch(final Collection<? extends T> collection, final int offset, final int limit) {
+        if (offset >= collection.size()) return List.of();
+        if (collection instanceof final List<? extends T> list) {
+            return List.copyOf(list.subList(offset, Math.min(list.size(), offset + limit)));
+        }
+        return collection.stream().skip(offset).limit(limit).<T>map(entry -> entry).toList();
+    }
+}
@@ -0,0 +1,237 @@
+package net.thenextlvl.interfaces;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Range;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Represents an additional paginated region of a paginated interface.
+ * <p>
+ * Each region has its own mask character, content, transformer and fallback item,
+ * and every session pages through it independently of the main content.
+ *
+ * @param <T> the type of the entries
+ * @see PaginatedInterface.Builder#region(ContentRegion)
+ * @see PaginatedSession#getRegion(ContentRegion)
+ * @since 0.6.0
+ */
+public sealed interface ContentRegion<T> permits SimpleContentRegion {
+    /**
+     * Gets the mask character of the slots displaying the content of this region.
+     *
+     * @return the content key
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    char contentKey();
+
+    /**
+     * Transforms an entry into an action item.
+     *
+     * @param entry the entry to transform
+     * @return the transformed action item
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    ActionItem transformItem(T entry);
+
+    /**
+     * Gets the fallback action item.
+     *
+     * @return the fallback action item
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    ActionItem fallback();
+
+    /**
+     * Creates a new content region builder.
+     *
+     * @param <T> the type of the entries
+     * @return the content region builder
+     * @since 0.6.0
+     */
+    @Contract(value = " -> new", pure = true)
+    static <T> Builder<T> builder() {
+        return new SimpleContentRegion.Builder<>();
+    }
+
+    /**
+     * A builder for content regions.
+     * <p>
+     * The settings behave like their counterparts of {@link PaginatedInterface.Builder}.
+     *
+     * @param <T> the type of the entries
+     * @since 0.6.0
+     */
+    sealed interface Builder<T> permits SimpleContentRegion.Builder {
+        /**
+         * Sets the mask character of the slots displaying the content of the region.
+         *
+         * @param key the mask character
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> mask(char key);
+
+        /**
+         * Sets the content supplier for the region.
+         *
+         * @param supplier the content supplier
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#content(Supplier)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(Supplier<? extends Collection<T>> supplier);
+
+        /**
+         * Sets the content collection for the region.
+         *
+         * @param collection the content collection
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#content(Collection)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(Collection<T> collection);
+
+        /**
+         * Sets the page source for the region.
+         *
+         * @param source the page source
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#content(PageSource)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(PageSource<T> source);
+
+        /**
+         * Sets the asynchronous page source for the region.
+         *
+         * @param source the asynchronous page source
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#content(AsyncPageSource)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(AsyncPageSource<T> source);
+
+        /**
+         * Sets the cursor source for the region.
+         *
+         * @param source the cursor source
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#content(CursorSource)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(CursorSource<T, ?> source);
+
+        /**
+         * Sets the observable content for the region.
+         *
+         * @param content the observable content
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#content(ObservableContent)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(ObservableContent<T> content);
+
+        /**
+         * Sets the transformer function for the region.
+         *
+         * @param function the transformer function
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> transformer(Function<T, ActionItem> function);
+
+        /**
+         * Sets the fallback action item for the region.
+         *
+         * @param fallback the fallback action item
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> fallback(ActionItem fallback);
+
+        /**
+         * Sets the supplier of the current content version of the region.
+         *
+         * @param version the content version supplier
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#contentVersion(LongSupplier)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> contentVersion(LongSupplier version);
+
+        /**
+         * Sets how many pages of the region are loaded and rendered in advance.
+         *
+         * @param depth the number of pages to prefetch in each direction
+         * @return this builder instance
+         * @throws IllegalArgumentException if the depth is negative
+         * @see PaginatedInterface.Builder#prefetch(int)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> prefetch(@Range(from = 0, to = Integer.MAX_VALUE) int depth) throws IllegalArgumentException;
+
+        /**
+         * Enables a cache for the action items created by the transformer of the region.
+         *
+         * @param maximumSize the maximum number of cached action items
+         * @return this builder instance
+         * @throws IllegalArgumentException if the maximum size is not positive
+         * @see PaginatedInterface.Builder#transformCache(int)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> transformCache(@Range(from = 1, to = Integer.MAX_VALUE) int maximumSize) throws IllegalArgumentException;
+
+        /**
+         * Enables a cache for the action items created by the transformer of the region.
+         *
+         * @param maximumSize the maximum number of cached action items
+         * @param keyFunction the function providing the cache key of an entry
+         * @return this builder instance
+         * @throws IllegalArgumentException if the maximum size is not positive
+         * @see PaginatedInterface.Builder#transformCache(int, Function)
+         * @since 0.6.0
+         */
+        @Contract(value = "_, _ -> this", mutates = "this")
+        Builder<T> transformCache(@Range(from = 1, to = Integer.MAX_VALUE) int maximumSize, Function<? super T, ?> keyFunction) throws IllegalArgumentException;
+
+        /**
+         * Declares the transformer of the region and the renderers of its items independent of the viewing player.
+         *
+         * @return this builder instance
+         * @see PaginatedInterface.Builder#sharePages()
+         * @since 0.6.0
+         */
+        @Contract(value = " -> this", mutates = "this")
+        Builder<T> sharePages();
+
+        /**
+         * Builds the content region with the configured settings.
+         *
+         * @return the content region
+         * @throws IllegalStateException if the mask, content or transformer is not set,
+         *                               or pages are shared without a content version
+         * @since 0.6.0
+         */
+        @Contract(value = " -> new", pure = true)
+        ContentRegion<T> build() throws IllegalStateException;
+    }
+}
@@ -0,0 +1,57 @@
+package net.thenextlvl.interfaces;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+final class CursorPager<T, K> {
+    private final CursorSource<T, K> source;
+
+    private @Nullable K first = null;
+    private @Nullable K last = null;
+    private int page = 0;
+
+    CursorPager(final CursorSource<T, K> source) {
+        this.source = source;
+    }
+
+    boolean canReach(final int page) {
+        return page == 0 || Math.abs(page - this.page) <= 1;
+    }
+
+    void anchor(final int page, final List<T> entries) {
+        this.page = page;
+        this.first = entries.isEmpty() ? null : source.key(entries.getFirst());
+        this.last = entries.isEmpty() ? null : source.key(entries.getLast());
+    }
+
+    CompletableFuture<SimplePaginatedInterface.LoadedPage<T>> fetch(final int requested, final int pageSize) {
+        if (requested == 0) return after(0, null, false, pageSize);
+        if (requested == page && first != null) return after(requested, first, true, pageSize);
+        if (requested == page + 1 && last != null) return after(requested, last, false, pageSize);
+        if (requested == page - 1 && first != null) return source.before(first, pageSize + 1).thenCompose(entries -> {
+            if (entries.size() > pageSize) {
+                return CompletableFuture.completedFuture(loaded(requested, entries.subList(1, entries.size()), true, pageSize));
+            } else if (entries.size() == pageSize) {
+                return CompletableFuture.completedFuture(loaded(0, entries, true, pageSize));
+            }
+            // entries were removed before the current page, so it is the first page now
+            return after(0, null, false, pageSize);
+        });
+        return after(0, null, false, pageSize);
+    }
+
+    private CompletableFuture<SimplePaginatedInterface.LoadedPage<T>> after(final int page, final @Nullable K key, final boolean inclusive, final int pageSize) {
+        // one additional entry tells whether there is a next page
+        return source.after(key, inclusive, pageSize + 1).thenApply(entries -> {
+            final var hasNext = entries.size() > pageSize;
+            return loaded(page, hasNext ? entries.subList(0, pageSize) : entries, hasNext, pageSize);
+        });
+    }
+
+    private SimplePaginatedInterface.LoadedPage<T> loaded(final int page, final List<T> entries, final boolean hasNext, final int pageSize) {
+        final var size = page * pageSize + entries.size() + (hasNext ? 1 : 0);
+        return new SimplePaginatedInterface.LoadedPage<>(page * pageSize, new AsyncPageSource.Slice<>(List.copyOf(entries), size));
+    }
+}
@@ -0,0 +1,60 @@
+package net.thenextlvl.interfaces;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Range;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a source of paginated content that is read relative to the keys of its entries.
+ * <p>
+ * Each page of a session is anchored by the keys of its first and last entry,
+ * the next and previous pages are loaded relative to those keys instead of an offset.
+ * Pages therefore stay stable when entries are inserted or removed before them,
+ * and database-backed sources can use keyset queries instead of offset scans.
+ * <p>
+ * Since the total number of entries is unknown, sessions only move to adjacent pages or back to the first page.
+ *
+ * @param <T> the type of the entries
+ * @param <K> the type of the keys
+ * @see PaginatedInterface.Builder#content(CursorSource)
+ * @since 0.6.0
+ */
+public interface CursorSource<T, K> {
+    /**
+     * Returns the key of the given entry.
+     * <p>
+     * Keys have to be unique and reflect the order of the entries in this source.
+     *
+     * @param entry the entry
+     * @return the key of the entry
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    K key(T entry);
+
+    /**
+     * Loads up to {@code limit} entries following the given key, in ascending order.
+     *
+     * @param key       the key to start after, or {@code null} to start with the first entry
+     * @param inclusive whether the entry with the given key is included
+     * @param limit     the maximum number of entries
+     * @return a future completing with the entries following the key
+     * @since 0.6.0
+     */
+    @Contract(value = "_, _, _ -> new")
+    CompletableFuture<List<T>> after(@Nullable K key, boolean inclusive, @Range(from = 0, to = Integer.MAX_VALUE) int limit);
+
+    /**
+     * Loads up to {@code limit} entries directly preceding the given key, in ascending order.
+     *
+     * @param key   the key to end before, the entry with this key is not included
+     * @param limit the maximum number of entries
+     * @return a future completing with the entries preceding the key
+     * @since 0.6.0
+     */
+    @Contract(value = "_, _ -> new")
+    CompletableFuture<List<T>> before(K key, @Range(from = 0, to = Integer.MAX_VALUE) int limit);
+}
@@ -0,0 +1,181 @@
+package net.thenextlvl.interfaces;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A filtered and sorted view of a collection that is maintained incrementally.
+ * <p>
+ * Entries are tracked by identity, so an entry that changes in a way that affects
+ * the filter or the order has to be replaced by a new instance to be picked up.
+ * Only added entries are tested against the filter and only added and removed entries are moved within the order,
+ * finding them takes a single identity comparison of the previous and the current snapshot.
+ */
+final class IndexedPageSource<T> implements PageSource<T> {
+    private final Supplier<? extends Collection<? extends T>> supplier;
+    private final @Nullable Predicate<? super T> filter;
+    private final @Nullable Comparator<? super T> comparator;
+
+    private @Nullable List<T> snapshot = null;
+    private @Nullable Long version = null;
+    private List<T> index = List.of();
+    private Map<T, Integer> matched = new IdentityHashMap<>();
+
+    IndexedPageSource(
+            final Supplier<? extends Collection<? extends T>> supplier,
+            final @Nullable Predicate<? super T> filter,
+            final @Nullable Comparator<? super T> comparator
+    ) {
+        this.supplier = supplier;
+        this.filter = filter;
+        this.comparator = comparator;
+    }
+
+    @Nullable Predicate<? super T> filter() {
+        return filter;
+    }
+
+    @Nullable Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Brings the index up to date with the backing collection.
+     *
+     * @param version the current content version, or {@code null} if the content is not versioned
+     */
+    void update(final @Nullable Long version) {
+        if (snapshot != null && version != null && version.equals(this.version)) return;
+        this.version = version;
+        // shared snapshots are immutable lists, which are neither copied nor compared again
+        final var current = List.<T>copyOf(supplier.get());
+        if (current == snapshot) return;
+        if (snapshot == null) {
+            rebuild(current);
+            return;
+        }
+
+        final var removed = new IdentityHashMap<T, Integer>(snapshot.size());
+        for (final var entry : snapshot) removed.merge(entry, 1, Integer::sum);
+        final var added = new IdentityHashMap<T, Integer>();
+        for (final T entry : current) {
+            final var count = removed.get(entry);
+            if (count == null) added.merge(entry, 1, Integer::sum);
+            else if (count == 1) removed.remove(entry);
+            else removed.put(entry, count - 1);
+        }
+        this.snapshot = current;
+
+        // sorting everything again is cheaper than many single insertions
+        if (comparator != null && added.size() + removed.size() > Math.max(16, current.size() / 8)) {
+            rebuild(current);
+            return;
+        }
+
+        removed.forEach((entry, count) -> {
+            for (var i = 0; i < count; i++) {
+                if (!unmatch(entry)) return;
+                if (comparator != null) remove(entry);
+            }
+        });
+        if (comparator != null) added.forEach((entry, count) -> {
+            if (!test(entry)) return;
+            for (var i = 0; i < count; i++) {
+                final var position = Collections.binarySearch(index, entry, comparator);
+                index.add(position < 0 ? -position - 1 : position, entry);
+                matched.merge(entry, 1, Integer::sum);
+            }
+        });
+        else merge(current, added);
+    }
+
+    private void merge(final List<T> current, final Map<T, Integer> added) {
+        // without an order the index follows the collection, previously matched entries are not tested again
+        final var tested = new IdentityHashMap<T, Boolean>(added.size());
+        final var index = new ArrayList<T>(this.index.size() + added.size());
+        final var remaining = new IdentityHashMap<>(matched);
+        for (final T entry : current) {
+            final var count = remaining.get(entry);
+            if (count != null) {
+                index.add(entry);
+                if (count == 1) remaining.remove(entry);
+                else remaining.put(entry, count - 1);
+            } else if (added.containsKey(entry) && tested.computeIfAbsent(entry, this::test)) {
+                index.add(entry);
+                matched.merge(entry, 1, Integer::sum);
+            }
+        }
+        this.index = index;
+    }
+
+    private boolean unmatch(final T entry) {
+        final var count = matched.get(entry);
+        if (count == null) return false;
+        if (count == 1) matched.remove(entry);
+        else matched.put(entry, count - 1);
+        return true;
+    }
+
+    private void rebuild(final List<T> current) {
+        final var index = new ArrayList<T>(current.size());
+        final var matched = new IdentityHashMap<T, Integer>();
+        for (final T entry : current) {
+            if (!test(entry)) continue;
+            index.add(entry);
+            matched.merge(entry, 1, Integer::sum);
+        }
+        if (comparator != null) index.sort(comparator);
+        this.index = index;
+        this.matched = matched;
+        this.snapshot = current;
+    }
+
+    private boolean test(final T entry) {
+        return filter == null || filter.test(entry);
+    }
+
+    private void remove(final T entry) {
+        final var comparator = Objects.requireNonNull(this.comparator);
+        final var position = Collections.binarySearch(index, entry, comparator);
+        if (position >= 0) {
+            // scan the range of equally ordered entries for the removed instance
+            for (var i = position; i < index.size() && comparator.compare(index.get(i), entry) == 0; i++) {
+                if (index.get(i) != entry) continue;
+                index.remove(i);
+                return;
+            }
+            for (var i = position - 1; i >= 0 && comparator.compare(index.get(i), entry) == 0; i--) {
+                if (index.get(i) != entry) continue;
+                index.remove(i);
+                return;
+            }
+        }
+        // the entry changed its position since it was indexed
+        for (var i = 0; i < index.size(); i++) {
+            if (index.get(i) != entry) continue;
+            index.remove(i);
+            return;
+        }
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public List<T> fetch(final int offset, final int limit) {
+        if (offset >= index.size()) return List.of();
+        return List.copyOf(index.subList(offset, Math.min(index.size(), offset + limit)));
+    }
+}
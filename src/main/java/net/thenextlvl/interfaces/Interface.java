@@ -13,7 +13,9 @@ import org.jetbrains.annotations.Range;
 import org.jetbrains.annotations.Unmodifiable;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -70,6 +72,33 @@ public sealed interface Interface permits SimpleInterface, PaginatedInterface {
     @Contract(pure = true)
     @Nullable BiConsumer<InterfaceSession, InventoryCloseEvent.Reason> onClose();
 
+    /**
+     * Returns the mode in which sessions of this interface apply refresh requests.
+     *
+     * @return the refresh mode
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    RefreshMode refreshMode();
+
+    /**
+     * Returns the executor that calls {@linkplain Renderer#isAsync() asynchronous renderers}.
+     *
+     * @return the render executor
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    Executor renderExecutor();
+
+    /**
+     * Returns the item that is displayed in slots whose item is still being rendered.
+     *
+     * @return the loading item
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    @Nullable ItemStack loadingItem();
+
     /**
      * Returns the items that are displayed in the interface.
      *
@@ -97,6 +126,43 @@ public sealed interface Interface permits SimpleInterface, PaginatedInterface {
      */
     void open(Player player);
 
+    /**
+     * Returns the number of sessions of this interface that are still alive.
+     * <p>
+     * This includes sessions kept in the background by {@link InterfaceSession#openChild(Interface)}
+     * until the player returns to them or they are closed.
+     * Sessions are closed when their view is closed, their player leaves the server,
+     * or the plugin owning the interface is disabled, and their close callbacks are called in each case.
+     * Sessions whose view was replaced without being closed are discarded periodically.
+     *
+     * @return the number of live sessions
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    int sessionCount();
+
+    /**
+     * Discards all items cached for renderers with a {@linkplain Renderer#scope() scope}
+     * that is shared across sessions.
+     * <p>
+     * Open sessions keep displaying their items until they are refreshed.
+     *
+     * @since 0.6.0
+     */
+    void invalidateRenderCache();
+
+    /**
+     * Returns a frozen variant of this interface if all of its items are {@linkplain RenderScope#CONSTANT constant}.
+     * <p>
+     * The contents of a frozen interface are rendered once and copied into the view with a single write
+     * whenever it is opened. Interfaces that contain any other item are returned as is.
+     *
+     * @return a frozen variant of this interface, or this interface if it can not be frozen
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    Interface freeze();
+
     /**
      * Creates a builder representing this interface.
      *
@@ -254,6 +320,84 @@ public sealed interface Interface permits SimpleInterface, PaginatedInterface {
         @Contract(value = "_ -> this", pure = true)
         Builder onClose(@Nullable BiConsumer<InterfaceSession, InventoryCloseEvent.Reason> handler);
 
+        /**
+         * Sets the mode in which sessions of the interface apply refresh requests.
+         * <p>
+         * Defaults to {@link RefreshMode#IMMEDIATE}.
+         *
+         * @param mode the refresh mode
+         * @return this builder
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", pure = true)
+        Builder refreshMode(RefreshMode mode);
+
+        /**
+         * Sets the executor that calls {@linkplain Renderer#isAsync() asynchronous renderers}.
+         * <p>
+         * Defaults to an executor that starts a new virtual thread for each render.
+         *
+         * @param executor the render executor
+         * @return this builder
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", pure = true)
+        Builder renderExecutor(Executor executor);
+
+        /**
+         * Sets the item that is displayed in slots whose item is still being rendered.
+         *
+         * @param item the loading item
+         * @return this builder
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", pure = true)
+        Builder loadingItem(@Nullable ItemStack item);
+
+        /**
+         * Limits the number of slots a session renders per server tick.
+         * <p>
+         * Slots exceeding the budget are rendered on the following ticks. Meanwhile, they keep their previous item,
+         * or display the {@linkplain #loadingItem(ItemStack) loading item} if they have none yet.
+         *
+         * @param slots the maximum number of slots rendered per tick
+         * @return this builder
+         * @throws IllegalArgumentException if the number of slots is not positive
+         * @see #renderPriority(char...)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", pure = true)
+        Builder renderBudget(@Range(from = 1, to = Integer.MAX_VALUE) int slots) throws IllegalArgumentException;
+
+        /**
+         * Limits the time a session spends rendering per server tick.
+         * <p>
+         * Slots exceeding the budget are rendered on the following ticks. Meanwhile, they keep their previous item,
+         * or display the {@linkplain #loadingItem(ItemStack) loading item} if they have none yet.
+         *
+         * @param time the maximum time spent rendering per tick
+         * @return this builder
+         * @throws IllegalArgumentException if the time is not positive
+         * @see #renderPriority(char...)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", pure = true)
+        Builder renderBudget(Duration time) throws IllegalArgumentException;
+
+        /**
+         * Sets the order in which slots are rendered.
+         * <p>
+         * Slots of the given keys are rendered first, in the given order,
+         * followed by all other slots from the top left to the bottom right.
+         * This matters when a {@linkplain #renderBudget(int) render budget} is exceeded.
+         *
+         * @param keys the characters to render first
+         * @return this builder
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", pure = true)
+        Builder renderPriority(char... keys);
+
         /**
          * Builds the interface for the given plugin.
          *
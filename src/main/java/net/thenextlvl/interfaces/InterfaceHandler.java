@@ -1,65 +1,304 @@
 package net.thenextlvl.interfaces;
 
+import org.bukkit.Server;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerKickEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.ServicesManager;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
-final class InterfaceHandler implements Listener {
-    private static final Map<JavaPlugin, @Nullable InterfaceHandler> instances = new ConcurrentHashMap<>();
-    private final Map<Player, SimpleInterface.Session> sessions = new ConcurrentHashMap<>();
+/**
+ * Dispatches inventory events to the sessions of all plugins using this library.
+ * <p>
+ * Copies of the library that are shaded into different plugins live in their own class loaders and can't share classes.
+ * They share a registry made of JDK and Bukkit types instead, which is published through the {@link ServicesManager}.
+ * The registry maps the top inventory of every open session to a callback of the copy managing the session,
+ * so the single listener registered by one of the copies looks up each event once and forwards it to that copy.
+ * The listener is handed over to another plugin, possibly of another copy, when the plugin it is registered for disables.
+ */
+final class InterfaceHandler {
+    private static final InterfaceHandler INSTANCE = new InterfaceHandler();
+    private static final String MARKER = "net.thenextlvl.interfaces";
+    private static final int FORMAT = 1;
+    private static final long SWEEP_INTERVAL = 20 * 60;
+
+    private final Map<Inventory, SimpleInterface.Session> sessions = new ConcurrentHashMap<>();
+    private final Set<JavaPlugin> plugins = ConcurrentHashMap.newKeySet();
+    private final Consumer<Event> lifecycle = this::onLifecycle;
+    private volatile @Nullable Registry registry = null;
+    private @Nullable BukkitTask sweep = null;
+    private @Nullable JavaPlugin sweeper = null;
 
     private InterfaceHandler() {
     }
 
     public static InterfaceHandler getInstance(final JavaPlugin plugin) {
-        return instances.computeIfAbsent(plugin, ignored -> {
-            final var instance = new InterfaceHandler();
-            plugin.getServer().getPluginManager().registerEvents(instance, plugin);
-            return instance;
-        });
+        final var registry = INSTANCE.registry;
+        if (registry == null || !registry.hasOwner() || !INSTANCE.plugins.contains(plugin)) INSTANCE.join(plugin);
+        return INSTANCE;
     }
 
-    public void setSession(final Player player, final SimpleInterface.Session session) {
-        sessions.put(player, session);
+    private synchronized void join(final JavaPlugin plugin) {
+        var registry = this.registry;
+        if (registry == null || !registry.hasOwner()) {
+            final var published = Registry.lookup(plugin.getServer());
+            // the registry is published by the first plugin taking over the listener
+            registry = published != null ? published : Registry.create();
+            this.registry = registry;
+        }
+        plugins.add(plugin);
+        registry.plugins().put(plugin, () -> takeOver(plugin));
+        registry.copies().add(lifecycle);
+        if (!registry.hasOwner()) takeOver(plugin);
+        if (sweeper == null) startSweep();
+    }
+
+    private void takeOver(final JavaPlugin plugin) {
+        final var registry = this.registry;
+        if (registry == null) return;
+        // the previous listener stays registered until its plugin finished disabling, but ignores events from now on
+        registry.owner().set(plugin);
+        plugin.getServer().getPluginManager().registerEvents(new Dispatcher(registry, plugin), plugin);
+        // services are unregistered along with the plugin that registered them
+        plugin.getServer().getServicesManager().register(ConcurrentMap.class, registry.shared(), plugin, ServicePriority.Lowest);
+    }
+
+    private void startSweep() {
+        sweeper = plugins.stream().filter(Plugin::isEnabled).findAny().orElse(null);
+        if (sweeper == null) return;
+        // tasks of the previous plugin were cancelled when it disabled
+        sweep = sweeper.getServer().getScheduler().runTaskTimer(sweeper, this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL);
+    }
+
+    private void sweep() {
+        // sessions whose view was replaced without a close event, or whose player left during a close
+        sessions.forEach((inventory, session) -> {
+            final var player = session.player();
+            if (!player.isOnline()) discard(inventory, session, InventoryCloseEvent.Reason.DISCONNECT);
+            else if (!player.getOpenInventory().getTopInventory().equals(inventory))
+                discard(inventory, session, InventoryCloseEvent.Reason.UNKNOWN);
+        });
     }
 
-    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
-    public void onOpen(final InventoryOpenEvent event) {
-        if (!(event.getPlayer() instanceof final Player player)) return;
-        final var session = sessions.get(player);
-        if (session == null || !event.getView().equals(session.view())) return;
+    private void onLifecycle(final Event event) {
+        if (event instanceof final PlayerEvent playerEvent) {
+            evict(playerEvent.getPlayer());
+        } else if (event instanceof final PluginDisableEvent disable) {
+            if (!(disable.getPlugin() instanceof final JavaPlugin plugin) || !plugins.remove(plugin)) return;
+            sessions.forEach((inventory, session) -> {
+                if (session.getInterface().plugin != plugin) return;
+                // closing the view runs the close callbacks through the close event
+                final var player = session.player();
+                if (player.getOpenInventory().getTopInventory().equals(inventory))
+                    player.closeInventory(InventoryCloseEvent.Reason.PLUGIN);
+                discard(inventory, session, InventoryCloseEvent.Reason.PLUGIN);
+            });
+            final var registry = this.registry;
+            if (plugins.isEmpty() && registry != null) registry.copies().remove(lifecycle);
+            if (plugin != sweeper) return;
+            if (sweep != null) sweep.cancel();
+            startSweep();
+        }
+    }
 
-        final var consumer = session.getInterface().onOpen();
-        if (consumer != null) consumer.accept(session);
+    private void evict(final Player player) {
+        sessions.forEach((inventory, session) -> {
+            if (session.player().equals(player)) discard(inventory, session, InventoryCloseEvent.Reason.DISCONNECT);
+        });
     }
 
-    @EventHandler(priority = EventPriority.LOWEST)
-    public void onClose(final InventoryCloseEvent event) {
-        if (!(event.getPlayer() instanceof final Player player)) return;
-        final var session = sessions.get(player);
-        if (session == null || !event.getView().equals(session.view())) return;
+    private void discard(final Inventory inventory, final SimpleInterface.Session session, final InventoryCloseEvent.Reason reason) {
+        // sessions that were already evicted have run their callbacks
+        if (sessions.get(inventory) != session) return;
+        closed(session, reason);
+        evict(inventory, session);
+    }
 
+    private void closed(final SimpleInterface.Session session, final InventoryCloseEvent.Reason reason) {
         final var consumer = session.getInterface().onClose();
-        if (consumer != null) consumer.accept(session, event.getReason());
-        sessions.remove(player);
+        if (consumer != null) consumer.accept(session, reason);
+        // sessions in the background are discarded along with the session they were left for
+        for (var parent = session.parent; parent != null; parent = parent.parent) {
+            final var parentConsumer = parent.getInterface().onClose();
+            if (parentConsumer != null) parentConsumer.accept(parent, reason);
+        }
+    }
+
+    public void dismiss(final SimpleInterface.Session session, final InventoryCloseEvent.Reason reason) {
+        // sessions in the background aren't registered, so they have no close event running their callbacks
+        if (session.isClosed()) return;
+        closed(session, reason);
+        removeSession(session);
+        session.close();
+    }
+
+    private void evict(final Inventory inventory, final SimpleInterface.Session session) {
+        if (!sessions.remove(inventory, session)) return;
+        final var registry = this.registry;
+        if (registry != null) registry.sessions().remove(inventory);
+        session.close();
+    }
+
+    public void setSession(final SimpleInterface.Session session) {
+        final var inventory = session.view().getTopInventory();
+        sessions.put(inventory, session);
+        final var registry = this.registry;
+        if (registry != null) registry.sessions().put(inventory, event -> handle(session, event));
     }
 
-    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
-    public void onInventoryClick(final InventoryClickEvent event) {
-        if (!(event.getWhoClicked() instanceof final Player player)) return;
-        final var session = sessions.get(player);
-        if (session == null || !event.getView().equals(session.view())) return;
+    public void removeSession(final SimpleInterface.Session session) {
+        evict(session.view().getTopInventory(), session);
+    }
+
+    public void background(final SimpleInterface.Session session) {
+        final var inventory = session.view().getTopInventory();
+        if (!sessions.remove(inventory, session)) return;
+        final var registry = this.registry;
+        if (registry != null) registry.sessions().remove(inventory);
+    }
+
+    private void handle(final SimpleInterface.Session session, final Event event) {
+        if (event instanceof final InventoryClickEvent click) {
+            session.handleClick(click);
+            click.setCancelled(true);
+        } else if (event instanceof InventoryOpenEvent) {
+            final var consumer = session.getInterface().onOpen();
+            if (consumer != null) consumer.accept(session);
+        } else if (event instanceof final InventoryCloseEvent close) {
+            discard(close.getView().getTopInventory(), session, close.getReason());
+        }
+    }
+
+    /**
+     * The state shared by all copies of the library, which only consists of JDK and Bukkit types.
+     *
+     * @param shared   the published map holding the other components
+     * @param sessions the dispatch callbacks of all open sessions by their top inventory
+     * @param plugins  the callbacks registering the listener for each plugin using the library
+     * @param copies   the callbacks of each copy for events that concern sessions beyond their inventory
+     * @param owner    the plugin the active listener is registered for
+     */
+    private record Registry(
+            ConcurrentMap<Object, Object> shared,
+            ConcurrentMap<Inventory, Consumer<Event>> sessions,
+            ConcurrentMap<Plugin, Runnable> plugins,
+            Set<Consumer<Event>> copies,
+            AtomicReference<@Nullable Plugin> owner
+    ) {
+        private boolean hasOwner() {
+            final var owner = this.owner.get();
+            return owner != null && owner.isEnabled();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static @Nullable Registry lookup(final Server server) {
+            for (final var registration : server.getServicesManager().getRegistrations(ConcurrentMap.class)) {
+                final var shared = (ConcurrentMap<Object, Object>) registration.getProvider();
+                // other plugins may provide maps of their own
+                if (!Integer.valueOf(FORMAT).equals(shared.get(MARKER))) continue;
+                return new Registry(shared,
+                        (ConcurrentMap<Inventory, Consumer<Event>>) shared.get("sessions"),
+                        (ConcurrentMap<Plugin, Runnable>) shared.get("plugins"),
+                        (Set<Consumer<Event>>) shared.get("copies"),
+                        (AtomicReference<@Nullable Plugin>) shared.get("owner"));
+            }
+            return null;
+        }
+
+        private static Registry create() {
+            final var registry = new Registry(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                    new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet(), new AtomicReference<>());
+            registry.shared().put("sessions", registry.sessions());
+            registry.shared().put("plugins", registry.plugins());
+            registry.shared().put("copies", registry.copies());
+            registry.shared().put("owner", registry.owner());
+            registry.shared().put(MARKER, FORMAT);
+            return registry;
+        }
+    }
+
+    /**
+     * The listener of the plugin owning the registry, which forwards events to the copy managing the session.
+     */
+    private static final class Dispatcher implements Listener {
+        private final Registry registry;
+        private final Plugin plugin;
+
+        private Dispatcher(final Registry registry, final Plugin plugin) {
+            this.registry = registry;
+            this.plugin = plugin;
+        }
+
+        private boolean isActive() {
+            return registry.owner().get() == plugin;
+        }
+
+        private void forward(final Inventory inventory, final Event event) {
+            if (!isActive()) return;
+            final var session = registry.sessions().get(inventory);
+            if (session != null) session.accept(event);
+        }
+
+        @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+        public void onOpen(final InventoryOpenEvent event) {
+            forward(event.getView().getTopInventory(), event);
+        }
+
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onClose(final InventoryCloseEvent event) {
+            forward(event.getView().getTopInventory(), event);
+        }
+
+        @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+        public void onInventoryClick(final InventoryClickEvent event) {
+            forward(event.getView().getTopInventory(), event);
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onQuit(final PlayerQuitEvent event) {
+            if (isActive()) registry.copies().forEach(copy -> copy.accept(event));
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onKick(final PlayerKickEvent event) {
+            if (isActive()) registry.copies().forEach(copy -> copy.accept(event));
+        }
 
-        session.handleClick(event);
-        event.setCancelled(true);
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(final PluginDisableEvent event) {
+            if (!isActive()) return;
+            final var disabled = event.getPlugin();
+            registry.plugins().remove(disabled);
+            registry.copies().forEach(copy -> copy.accept(event));
+            if (disabled != plugin) return;
+            // the listeners of the disabling plugin are unregistered after this event
+            for (final var entry : registry.plugins().entrySet()) {
+                if (!entry.getKey().isEnabled()) continue;
+                entry.getValue().run();
+                return;
+            }
+            registry.owner().compareAndSet(plugin, null);
+        }
     }
 }
@@ -7,6 +7,13 @@ import org.jetbrains.annotations.Contract;
 
 /**
  * Represents a session of an interface.
+ * <p>
+ * The session remembers which state keys each slot read through its {@link RenderContext} during its last render.
+ * Changing one of these keys automatically re-renders the dependent slots,
+ * so calling {@link #refresh()} after modifying the state is not necessary.
+ * Values are compared by {@linkplain Object#equals(Object) equality}, so mutating a value in place is not detected
+ * and requires setting a new value or refreshing the session.
+ * Sessions opened with the state of this session share its values, and changes re-render their dependent slots as well.
  *
  * @since 0.2.0
  */
@@ -38,8 +45,39 @@ public sealed interface InterfaceSession extends InventoryHolder, StateHolder pe
     @Contract(pure = true)
     InventoryView view();
 
+    /**
+     * Opens the given interface for the player and keeps this session in the background.
+     * <p>
+     * The session keeps its rendered contents and state while the player navigates deeper,
+     * and changes to its state are recorded without being rendered.
+     * Calling {@link #back()} on the opened session restores this session with a single write to a new view
+     * and only renders the slots that were invalidated in the meantime.
+     * Closing the opened session in any other way closes this session as well.
+     * If opening the interface is cancelled, this session is opened again.
+     *
+     * @param child the interface to open
+     * @throws IllegalStateException if this session is closed or in the background
+     * @since 0.6.0
+     */
+    void openChild(Interface child) throws IllegalStateException;
+
+    /**
+     * Returns to the session this session was opened from using {@link #openChild(Interface)}.
+     * <p>
+     * This session is closed once the previous session is opened again.
+     * If opening the previous session is cancelled, it stays in the background of this session,
+     * or is closed along with this session if this session was closed in the meantime.
+     *
+     * @return {@code true} if a previous session was opened
+     * @since 0.6.0
+     */
+    boolean back();
+
     /**
      * Refreshes the interface.
+     * <p>
+     * Only slots whose rendered item differs from the item last written to them are updated in the view.
+     * Renderers are therefore expected to return either a new item or one they no longer mutate.
      *
      * @since 0.2.0
      */
@@ -60,4 +98,23 @@ public sealed interface InterfaceSession extends InventoryHolder, StateHolder pe
      * @since 0.2.0
      */
     void refreshSlot(int slot) throws IndexOutOfBoundsException;
+
+    /**
+     * Returns the number of slots that were written to the view by refreshes of this session.
+     *
+     * @return the number of written slots
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    long getWrittenSlotCount();
+
+    /**
+     * Returns the number of slots that were not written to the view by refreshes of this session
+     * because their rendered item did not change.
+     *
+     * @return the number of skipped slots
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    long getSkippedSlotCount();
 }
@@ -0,0 +1,100 @@
+package net.thenextlvl.interfaces;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Range;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Represents paginated content that notifies open sessions about every change.
+ * <p>
+ * Instead of reloading their whole page, sessions only render the slots affected by a change
+ * and move the remaining items of their page where entries were inserted or removed.
+ * Changes outside the page of a session don't cause any rendering in that session.
+ * <p>
+ * Entries are identified by identity. The content has to be modified on the main thread.
+ *
+ * @param <T> the type of the entries
+ * @see PaginatedInterface.Builder#content(ObservableContent)
+ * @since 0.6.0
+ */
+public sealed interface ObservableContent<T> extends PageSource<T> permits SimpleObservableContent {
+    /**
+     * Creates new empty observable content.
+     *
+     * @param <T> the type of the entries
+     * @return the observable content
+     * @since 0.6.0
+     */
+    @Contract(value = " -> new", pure = true)
+    static <T> ObservableContent<T> create() {
+        return new SimpleObservableContent<>(List.of());
+    }
+
+    /**
+     * Creates new observable content containing the given entries.
+     *
+     * @param entries the initial entries
+     * @param <T>     the type of the entries
+     * @return the observable content
+     * @since 0.6.0
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static <T> ObservableContent<T> of(final Collection<? extends T> entries) {
+        return new SimpleObservableContent<>(entries);
+    }
+
+    /**
+     * Returns the version of this content, which changes with every modification.
+     *
+     * @return the content version
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    long version();
+
+    /**
+     * Appends an entry to the end of this content.
+     *
+     * @param entry the entry to add
+     * @throws IllegalStateException if called off the main thread
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    void add(T entry) throws IllegalStateException;
+
+    /**
+     * Inserts an entry at the given index of this content.
+     *
+     * @param index the index to insert the entry at
+     * @param entry the entry to add
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if called off the main thread
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    void add(@Range(from = 0, to = Integer.MAX_VALUE) int index, T entry) throws IndexOutOfBoundsException, IllegalStateException;
+
+    /**
+     * Removes an entry from this content.
+     *
+     * @param entry the entry to remove
+     * @return {@code true} if the entry was part of this content
+     * @throws IllegalStateException if called off the main thread
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    boolean remove(T entry) throws IllegalStateException;
+
+    /**
+     * Notifies sessions that the given entry changed, so its slot is transformed and rendered again.
+     *
+     * @param entry the changed entry
+     * @return {@code true} if the entry is part of this content
+     * @throws IllegalStateException if called off the main thread
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    boolean update(T entry) throws IllegalStateException;
+}
@@ -0,0 +1,55 @@
+package net.thenextlvl.interfaces;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Range;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Represents a source of paginated content that is read one page at a time.
+ *
+ * @param <T> the type of the entries
+ * @see PaginatedInterface.Builder#content(PageSource)
+ * @since 0.6.0
+ */
+public interface PageSource<T> {
+    /**
+     * Returns the total number of entries in this source.
+     *
+     * @return the number of entries
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    int size();
+
+    /**
+     * Returns up to {@code limit} entries of this source, starting at the given offset.
+     *
+     * @param offset the index of the first entry
+     * @param limit  the maximum number of entries
+     * @return the entries within the requested window
+     * @since 0.6.0
+     */
+    @Unmodifiable
+    @Contract(pure = true)
+    List<T> fetch(@Range(from = 0, to = Integer.MAX_VALUE) int offset, @Range(from = 0, to = Integer.MAX_VALUE) int limit);
+
+    /**
+     * Creates a page source that reads its entries from the collection provided by the given supplier.
+     * <p>
+     * Only the requested window of the collection is copied.
+     *
+     * @param supplier the content supplier
+     * @param <T>      the type of the entries
+     * @return a page source backed by the supplied collection
+     * @since 0.6.0
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static <T> PageSource<T> of(final Supplier<? extends Collection<? extends T>> supplier) {
+        return new CollectionPageSource<>(supplier);
+    }
+}
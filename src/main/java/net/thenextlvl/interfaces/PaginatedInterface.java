@@ -2,9 +2,11 @@ package net.thenextlvl.interfaces;
 
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Range;
 
 import java.util.Collection;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -41,6 +43,38 @@ public sealed interface PaginatedInterface<T> extends Interface permits SimplePa
     @Contract(pure = true)
     ActionItem fallback();
 
+    /**
+     * Discards all action items cached by the {@linkplain Builder#transformCache(int) transform cache}.
+     * <p>
+     * Open sessions keep displaying their items until they are refreshed.
+     *
+     * @since 0.6.0
+     */
+    void invalidateTransformCache();
+
+    /**
+     * Returns the number of {@link #transformItem(Object)} calls answered by the transform cache.
+     * <p>
+     * The count includes the items transformed for all {@linkplain Builder#region(ContentRegion) content regions}.
+     *
+     * @return the number of cache hits
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    long getTransformCacheHits();
+
+    /**
+     * Returns the number of {@link #transformItem(Object)} calls that had to call the transformer
+     * while the transform cache was enabled.
+     * <p>
+     * The count includes the items transformed for all {@linkplain Builder#region(ContentRegion) content regions}.
+     *
+     * @return the number of cache misses
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    long getTransformCacheMisses();
+
     /**
      * Builds a paginated interface with the specified configuration.
      *
@@ -72,6 +106,12 @@ public sealed interface PaginatedInterface<T> extends Interface permits SimplePa
 
         /**
          * Sets the content supplier for the interface.
+         * <p>
+         * All sessions of the interface page through one copy of the supplied collection, which is taken again
+         * once the {@linkplain #contentVersion(LongSupplier) content version} changes.
+         * Without a content version, sessions loading pages in the same tick share the copy,
+         * so a change to the supplied collection is only displayed by sessions loading pages in a later tick
+         * or by {@linkplain InterfaceSession#refresh() refreshing} the session.
          *
          * @param supplier the content supplier
          * @return this builder instance
@@ -82,6 +122,12 @@ public sealed interface PaginatedInterface<T> extends Interface permits SimplePa
 
         /**
          * Sets the content collection for the interface.
+         * <p>
+         * All sessions of the interface page through one copy of the collection, which is taken again
+         * once the {@linkplain #contentVersion(LongSupplier) content version} changes.
+         * Without a content version, sessions loading pages in the same tick share the copy,
+         * so a change to the collection is only displayed by sessions loading pages in a later tick
+         * or by {@linkplain InterfaceSession#refresh() refreshing} the session.
          *
          * @param collection the content collection
          * @return this builder instance
@@ -90,6 +136,61 @@ public sealed interface PaginatedInterface<T> extends Interface permits SimplePa
         @Contract(value = "_ -> this", mutates = "this")
         Builder<T> content(Collection<T> collection);
 
+        /**
+         * Sets the page source for the interface.
+         * <p>
+         * Sessions only fetch the entries displayed on their current page,
+         * and the page count is derived from the {@linkplain PageSource#size() size} of the source.
+         *
+         * @param source the page source
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(PageSource<T> source);
+
+        /**
+         * Sets the asynchronous page source for the interface.
+         * <p>
+         * Pages are loaded off the main thread, only the most recently requested page of a session is displayed.
+         *
+         * @param source the asynchronous page source
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(AsyncPageSource<T> source);
+
+        /**
+         * Sets the cursor source for the interface.
+         * <p>
+         * Pages are loaded relative to the keys of the entries on the current page,
+         * so they stay stable when entries are inserted or removed before them.
+         * Sessions can only move to adjacent pages or back to the first page,
+         * and {@linkplain #prefetch(int) prefetching} is not supported.
+         *
+         * @param source the cursor source
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(CursorSource<T, ?> source);
+
+        /**
+         * Sets the observable content for the interface.
+         * <p>
+         * Sessions apply each change of the content to their current page on their own,
+         * so only the slots displaying affected entries are rendered again.
+         * Unless set explicitly, the {@linkplain #contentVersion(LongSupplier) content version}
+         * is the {@linkplain ObservableContent#version() version} of the content.
+         *
+         * @param content the observable content
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> content(ObservableContent<T> content);
+
         /**
          * Sets the transformer function for the interface.
          *
@@ -110,24 +211,122 @@ public sealed interface PaginatedInterface<T> extends Interface permits SimplePa
         @Contract(value = "_ -> this", mutates = "this")
         Builder<T> fallback(ActionItem fallback);
 
+        /**
+         * Sets the supplier of the current content version.
+         * <p>
+         * The version has to change whenever the content changes, for example by incrementing a modification stamp.
+         * A refreshing session only reloads and transforms the entries of its page if the version changed
+         * since the page was loaded, otherwise only the slots outside the content are rendered again.
+         *
+         * @param version the content version supplier
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> contentVersion(LongSupplier version);
+
+        /**
+         * Sets how many pages before and after the current page of a session are loaded and rendered in advance.
+         * <p>
+         * Switching to a prefetched page displays its items without loading or rendering them again.
+         * Pages are rendered on the main thread within the {@linkplain Interface.Builder#renderBudget(int) render budget},
+         * spread over several ticks, and asynchronous renderers are only called once their page is displayed.
+         * Prefetched pages are discarded when the session is refreshed or closed.
+         *
+         * @param depth the number of pages to prefetch in each direction
+         * @return this builder instance
+         * @throws IllegalArgumentException if the depth is negative
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> prefetch(@Range(from = 0, to = Integer.MAX_VALUE) int depth) throws IllegalArgumentException;
+
+        /**
+         * Enables a cache for the action items created by the {@linkplain #transformer(Function) transformer}.
+         * <p>
+         * Entries are identified by identity and the cache is shared by all sessions of the interface.
+         * When the cache is full, the least recently used items are evicted.
+         * The cache is cleared whenever the {@linkplain #contentVersion(LongSupplier) content version} changes.
+         * Without a content version, entries changed in place keep their cached item
+         * until {@link PaginatedInterface#invalidateTransformCache()} is called.
+         *
+         * @param maximumSize the maximum number of cached action items
+         * @return this builder instance
+         * @throws IllegalArgumentException if the maximum size is not positive
+         * @see #transformCache(int, Function)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> transformCache(@Range(from = 1, to = Integer.MAX_VALUE) int maximumSize) throws IllegalArgumentException;
+
+        /**
+         * Enables a cache for the action items created by the {@linkplain #transformer(Function) transformer}.
+         * <p>
+         * Entries are identified by the key returned by the key function, so equal keys share the same action item.
+         * The cache is shared by all sessions of the interface.
+         * When the cache is full, the least recently used items are evicted.
+         * The cache is cleared whenever the {@linkplain #contentVersion(LongSupplier) content version} changes.
+         * Without a content version, entries changed in place keep their cached item
+         * until {@link PaginatedInterface#invalidateTransformCache()} is called.
+         *
+         * @param maximumSize the maximum number of cached action items
+         * @param keyFunction the function providing the cache key of an entry
+         * @return this builder instance
+         * @throws IllegalArgumentException if the maximum size is not positive
+         * @since 0.6.0
+         */
+        @Contract(value = "_, _ -> this", mutates = "this")
+        Builder<T> transformCache(@Range(from = 1, to = Integer.MAX_VALUE) int maximumSize, Function<? super T, ?> keyFunction) throws IllegalArgumentException;
+
+        /**
+         * Declares the transformer and the renderers of the transformed items independent of the viewing player.
+         * <p>
+         * Pages are then transformed and rendered once per content version and shared by all sessions
+         * showing the same page, instead of being transformed and rendered by every session on its own.
+         * Pages are shared until the {@linkplain #contentVersion(LongSupplier) content version} changes,
+         * which therefore has to be set unless the content is {@linkplain #content(ObservableContent) observable}.
+         * Renderers that are rendered asynchronously are still rendered by each session.
+         *
+         * @return this builder instance
+         * @since 0.6.0
+         */
+        @Contract(value = " -> this", mutates = "this")
+        Builder<T> sharePages();
+
+        /**
+         * Adds an additional paginated region to the interface.
+         * <p>
+         * Each region is paged independently of the main content and of other regions,
+         * and has to use a mask character that differs from theirs.
+         *
+         * @param region the content region
+         * @return this builder instance
+         * @see PaginatedSession#getRegion(ContentRegion)
+         * @since 0.6.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> region(ContentRegion<?> region);
+
         /**
          * Builds the paginated interface with the configured settings for the given plugin.
          *
          * @return the paginated interface
+         * @throws IllegalStateException if pages are shared without a content version
          * @since 0.4.0
          */
         @Contract(value = "_ -> new", pure = true)
-        PaginatedInterface<T> build(JavaPlugin plugin);
+        PaginatedInterface<T> build(JavaPlugin plugin) throws IllegalStateException;
 
         /**
          * Builds the paginated interface with the configured settings for the plugin that provides this class.
          *
          * @return the paginated interface
          * @see JavaPlugin#getProvidingPlugin(Class)
+         * @throws IllegalStateException if pages are shared without a content version
          * @see #build(JavaPlugin)
          * @since 0.3.0
          */
         @Contract(value = " -> new", pure = true)
-        PaginatedInterface<T> build();
+        PaginatedInterface<T> build() throws IllegalStateException;
     }
 }
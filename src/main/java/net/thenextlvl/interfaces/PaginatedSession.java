@@ -2,13 +2,18 @@ package net.thenextlvl.interfaces;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Range;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
 
 /**
  * Represents a session for a paginated interface.
  *
+ * @param <T> the type of the content entries
  * @since 0.3.0
  */
-public sealed interface PaginatedSession extends InterfaceSession permits SimplePaginatedInterface.Session {
+public sealed interface PaginatedSession<T> extends InterfaceSession permits SimplePaginatedInterface.Session {
     /**
      * Returns the paginated interface that triggered this event.
      *
@@ -16,7 +21,7 @@ public sealed interface PaginatedSession extends InterfaceSession permits Simple
      * @since 0.3.0
      */
     @Contract(pure = true)
-    PaginatedInterface<?> getInterface();
+    PaginatedInterface<T> getInterface();
 
     /**
      * Returns the current page of the paginated interface.
@@ -56,4 +61,80 @@ public sealed interface PaginatedSession extends InterfaceSession permits Simple
      */
     @Contract(mutates = "this")
     boolean setPage(@Range(from = 0, to = Integer.MAX_VALUE) int page);
+
+    /**
+     * Scrolls the content by the given number of rows.
+     * <p>
+     * Rows that stay visible keep their rendered items and are moved to their new slots,
+     * only the entries of the newly exposed rows are loaded, transformed and rendered.
+     * Renderers of content items should therefore not depend on the slot they are displayed in.
+     * Scrolling stops at the first and last row of the content.
+     *
+     * @param rows the number of rows to scroll, negative values scroll up
+     * @return {@code true} if the visible rows changed, {@code false} otherwise
+     * @throws UnsupportedOperationException if the content slots don't form rows of equal width
+     *                                       or the content is provided by a {@link CursorSource}
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    boolean scroll(int rows) throws UnsupportedOperationException;
+
+    /**
+     * Returns the filter applied to the content of this session.
+     *
+     * @return the filter, or {@code null} if the content is not filtered
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    @Nullable Predicate<? super T> getFilter();
+
+    /**
+     * Shows only the entries of the content that match the given filter and moves to the first page.
+     * <p>
+     * The filtered view is maintained per session. Entries are tracked by identity,
+     * so added and removed entries update the view without filtering the whole content again.
+     * An entry that changes in a way that affects the filter has to be replaced by a new instance.
+     *
+     * @param filter the filter, or {@code null} to show all entries
+     * @throws UnsupportedOperationException if the content is not provided by a collection
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    void setFilter(@Nullable Predicate<? super T> filter) throws UnsupportedOperationException;
+
+    /**
+     * Returns the order applied to the content of this session.
+     *
+     * @return the comparator, or {@code null} if the content is shown in its original order
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    @Nullable Comparator<? super T> getSort();
+
+    /**
+     * Orders the entries of the content using the given comparator and moves to the first page.
+     * <p>
+     * The sorted view is maintained per session. Entries are tracked by identity,
+     * so added and removed entries are inserted into or removed from the view without sorting it again.
+     * An entry that changes in a way that affects the order has to be replaced by a new instance.
+     *
+     * @param comparator the comparator, or {@code null} to show the entries in their original order
+     * @throws UnsupportedOperationException if the content is not provided by a collection
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    void setSort(@Nullable Comparator<? super T> comparator) throws UnsupportedOperationException;
+
+    /**
+     * Returns the state of the given content region within this session.
+     *
+     * @param region the content region
+     * @param <E>    the type of the region entries
+     * @return the region session
+     * @throws IllegalArgumentException if the region is not part of the interface
+     * @see PaginatedInterface.Builder#region(ContentRegion)
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    <E> RegionSession<E> getRegion(ContentRegion<E> region) throws IllegalArgumentException;
 }
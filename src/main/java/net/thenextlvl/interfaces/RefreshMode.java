@@ -0,0 +1,25 @@
+package net.thenextlvl.interfaces;
+
+/**
+ * Represents the way sessions of an interface apply refresh requests.
+ *
+ * @see Interface.Builder#refreshMode(RefreshMode)
+ * @since 0.6.0
+ */
+public enum RefreshMode {
+    /**
+     * Refresh requests render the affected slots right away.
+     *
+     * @since 0.6.0
+     */
+    IMMEDIATE,
+    /**
+     * Refresh requests only mark the affected slots as dirty.
+     * <p>
+     * All dirty slots are rendered once on the next server tick,
+     * no matter how often they were refreshed in the meantime.
+     *
+     * @since 0.6.0
+     */
+    COALESCED
+}
@@ -0,0 +1,123 @@
+package net.thenextlvl.interfaces;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Range;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Represents the state of a content region within a paginated session.
+ * <p>
+ * Moving a region to another page only loads and renders the slots of that region
+ * and the slots outside any content.
+ *
+ * @param <T> the type of the entries
+ * @see PaginatedSession#getRegion(ContentRegion)
+ * @since 0.6.0
+ */
+public sealed interface RegionSession<T> permits SimplePaginatedInterface.Session.Region {
+    /**
+     * Returns the content region this state belongs to.
+     *
+     * @return the content region
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    ContentRegion<T> getRegion();
+
+    /**
+     * Returns the current page of the region.
+     *
+     * @return the current page
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    int getCurrentPage();
+
+    /**
+     * Returns the number of entries displayed on a single page of the region.
+     *
+     * @return the page size
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    int getPageSize();
+
+    /**
+     * Returns the total number of pages of the region.
+     *
+     * @return the total number of pages
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    int getPageCount();
+
+    /**
+     * Moves the region to a specific page.
+     *
+     * @param page the page number to move to
+     * @return {@code true} if the page was changed, {@code false} otherwise
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    boolean setPage(@Range(from = 0, to = Integer.MAX_VALUE) int page);
+
+    /**
+     * Scrolls the region by the given number of rows.
+     * <p>
+     * Rows that stay visible keep their rendered items and are moved to their new slots,
+     * only the entries of the newly exposed rows are loaded, transformed and rendered.
+     * Renderers of content items should therefore not depend on the slot they are displayed in.
+     * Scrolling stops at the first and last row of the content.
+     *
+     * @param rows the number of rows to scroll, negative values scroll up
+     * @return {@code true} if the visible rows changed, {@code false} otherwise
+     * @throws UnsupportedOperationException if the content slots don't form rows of equal width
+     *                                       or the content is provided by a {@link CursorSource}
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    boolean scroll(int rows) throws UnsupportedOperationException;
+
+    /**
+     * Returns the filter applied to the content of the region.
+     *
+     * @return the filter, or {@code null} if the content is not filtered
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    @Nullable Predicate<? super T> getFilter();
+
+    /**
+     * Shows only the entries of the region that match the given filter and moves to the first page.
+     *
+     * @param filter the filter, or {@code null} to show all entries
+     * @throws UnsupportedOperationException if the content is not provided by a collection
+     * @see PaginatedSession#setFilter(Predicate)
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    void setFilter(@Nullable Predicate<? super T> filter) throws UnsupportedOperationException;
+
+    /**
+     * Returns the order applied to the content of the region.
+     *
+     * @return the comparator, or {@code null} if the content is shown in its original order
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    @Nullable Comparator<? super T> getSort();
+
+    /**
+     * Orders the entries of the region using the given comparator and moves to the first page.
+     *
+     * @param comparator the comparator, or {@code null} to show the entries in their original order
+     * @throws UnsupportedOperationException if the content is not provided by a collection
+     * @see PaginatedSession#setSort(Comparator)
+     * @since 0.6.0
+     */
+    @Contract(mutates = "this")
+    void setSort(@Nullable Comparator<? super T> comparator) throws UnsupportedOperationException;
+}
@@ -0,0 +1,68 @@
+package net.thenextlvl.interfaces;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+final class RenderCache {
+    // weak keys let transient renderers, like the ones of paginated content, be collected
+    private final Map<Renderer, ItemStack> constants = new WeakHashMap<>();
+    private final Map<Player, @Nullable Entry[]> players = new WeakHashMap<>();
+    private final @Nullable Entry[] slots;
+
+    RenderCache(final int size) {
+        this.slots = new Entry[size];
+    }
+
+    public @Nullable ItemStack get(final Renderer renderer, final Player player, final int slot) {
+        return switch (renderer.scope()) {
+            case CONSTANT -> constants.get(renderer);
+            case INTERFACE -> get(slots, renderer, slot);
+            case PLAYER -> {
+                final var entries = players.get(player);
+                yield entries != null ? get(entries, renderer, slot) : null;
+            }
+            case SESSION -> null;
+        };
+    }
+
+    public void put(final Renderer renderer, final Player player, final int slot, final ItemStack item) {
+        switch (renderer.scope()) {
+            case CONSTANT -> constants.put(renderer, item);
+            case INTERFACE -> slots[slot] = new Entry(renderer, item);
+            case PLAYER -> players.computeIfAbsent(player, ignored -> new Entry[slots.length])[slot] = new Entry(renderer, item);
+            case SESSION -> {
+            }
+        }
+    }
+
+    public void invalidate(final Renderer renderer, final int slot) {
+        constants.remove(renderer);
+        invalidate(slots, renderer, slot);
+        players.values().forEach(entries -> invalidate(entries, renderer, slot));
+    }
+
+    private static void invalidate(final @Nullable Entry[] entries, final Renderer renderer, final int slot) {
+        final var entry = entries[slot];
+        if (entry != null && entry.renderer() == renderer) entries[slot] = null;
+    }
+
+    public void clear() {
+        constants.clear();
+        players.clear();
+        Arrays.fill(slots, null);
+    }
+
+    private static @Nullable ItemStack get(final @Nullable Entry[] entries, final Renderer renderer, final int slot) {
+        final var entry = entries[slot];
+        // the renderer of a slot changes when paginated content is updated
+        return entry != null && entry.renderer() == renderer ? entry.item() : null;
+    }
+
+    private record Entry(Renderer renderer, ItemStack item) {
+    }
+}
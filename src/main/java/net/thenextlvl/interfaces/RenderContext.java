@@ -27,8 +27,20 @@ public sealed interface RenderContext extends StateHolder permits ClickContext,
      * @since 0.4.0
      */
     @Contract(pure = true)
+    @SuppressWarnings("rawtypes")
     Optional<PaginatedSession> paginatedSession();
 
+    /**
+     * Returns the paginated session of the interface that triggered this event if it belongs to the given interface.
+     *
+     * @param paginatedInterface the paginated interface the session has to belong to
+     * @param <T>                the type of the entries
+     * @return the paginated interface session
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    <T> Optional<PaginatedSession<T>> paginatedSession(PaginatedInterface<T> paginatedInterface);
+
     /**
      * Returns the player corresponding to this context.
      *
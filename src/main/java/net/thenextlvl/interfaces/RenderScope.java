@@ -0,0 +1,43 @@
+package net.thenextlvl.interfaces;
+
+/**
+ * Represents the scope in which the item of a {@link Renderer} may change,
+ * and therefore how widely a rendered item can be shared.
+ *
+ * @see Renderer#scope()
+ * @since 0.6.0
+ */
+public enum RenderScope {
+    /**
+     * The item never changes.
+     * <p>
+     * It is rendered once and shared by every slot and session of an interface that uses the renderer.
+     *
+     * @since 0.6.0
+     */
+    CONSTANT,
+    /**
+     * The item only depends on the slot it is rendered in.
+     * <p>
+     * It is rendered once per slot and shared by all sessions of an interface.
+     *
+     * @since 0.6.0
+     */
+    INTERFACE,
+    /**
+     * The item depends on the slot and the player viewing it.
+     * <p>
+     * It is rendered once per slot and player and shared by all sessions of that player on an interface.
+     *
+     * @since 0.6.0
+     */
+    PLAYER,
+    /**
+     * The item may depend on anything, including the state of the session.
+     * <p>
+     * It is rendered by every session, this is the default scope.
+     *
+     * @since 0.6.0
+     */
+    SESSION
+}
@@ -2,6 +2,9 @@ package net.thenextlvl.interfaces;
 
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.CheckReturnValue;
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.Executor;
 
 /**
  * Represents a renderer for an item.
@@ -18,4 +21,60 @@ public interface Renderer {
      */
     @CheckReturnValue
     ItemStack render(RenderContext context);
+
+    /**
+     * Returns whether this renderer is called off the main thread.
+     * <p>
+     * Asynchronous renderers are called on the {@linkplain Interface.Builder#renderExecutor(Executor) render executor},
+     * their results are applied to the view in one batch on the next server tick.
+     *
+     * @return {@code true} if this renderer is called asynchronously
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    default boolean isAsync() {
+        return false;
+    }
+
+    /**
+     * Returns a renderer that calls the given renderer off the main thread.
+     *
+     * @param renderer the renderer to call asynchronously
+     * @return an asynchronous renderer
+     * @see #isAsync()
+     * @since 0.6.0
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static Renderer async(final Renderer renderer) {
+        return new SimpleRenderer(renderer, true, renderer.scope());
+    }
+
+    /**
+     * Returns the scope in which the item of this renderer may change.
+     * <p>
+     * Items of renderers with a scope other than {@link RenderScope#SESSION} are cached by the interface
+     * and shared across its sessions, such renderers are not re-rendered when the session state changes.
+     *
+     * @return the render scope
+     * @see Interface#invalidateRenderCache()
+     * @since 0.6.0
+     */
+    @Contract(pure = true)
+    default RenderScope scope() {
+        return RenderScope.SESSION;
+    }
+
+    /**
+     * Returns a renderer that calls the given renderer within the given scope.
+     *
+     * @param scope    the scope in which the item of the renderer may change
+     * @param renderer the renderer to call
+     * @return a scoped renderer
+     * @see #scope()
+     * @since 0.6.0
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    static Renderer scoped(final RenderScope scope, final Renderer renderer) {
+        return new SimpleRenderer(renderer, renderer.isAsync(), scope);
+    }
 }
@@ -0,0 +1,259 @@
+package net.thenextlvl.interfaces;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+final class SimpleContentRegion<T> implements ContentRegion<T>, SimpleObservableContent.Listener {
+    final char contentKey;
+    final @Nullable AsyncPageSource<T> source;
+    final @Nullable CursorSource<T, ?> cursor;
+    final @Nullable Supplier<? extends Collection<? extends T>> collection;
+    final @Nullable SimpleObservableContent<T> observable;
+    final int prefetchDepth;
+    final @Nullable LongSupplier contentVersion;
+    final boolean sharePages;
+
+    private final @Nullable SnapshotPageSource<T> snapshot;
+    private final Function<T, ActionItem> itemFunction;
+    private final ActionItem fallback;
+    private final @Nullable Cache<Object, ActionItem> transformCache;
+    private final @Nullable Function<? super T, ?> transformKey;
+    private volatile long transformVersion;
+
+    private SimpleContentRegion(final Builder<T> builder) {
+        this.contentKey = builder.contentKey;
+        this.cursor = builder.cursor;
+        if (builder.collection != null) {
+            // all sessions read the same copy of the collection instead of copying it on their own
+            final var snapshot = new SnapshotPageSource<T>(builder.collection, builder.contentVersion);
+            this.source = adapt(snapshot);
+            this.collection = snapshot::entries;
+            this.snapshot = snapshot;
+        } else {
+            this.source = builder.source;
+            this.collection = null;
+            this.snapshot = null;
+        }
+        this.observable = builder.observable;
+        this.prefetchDepth = builder.prefetchDepth;
+        this.contentVersion = builder.contentVersion == null && observable != null ? observable::version : builder.contentVersion;
+        this.itemFunction = builder.itemFunction;
+        this.fallback = builder.fallback;
+        this.transformCache = builder.transformCacheSize > 0 ? createTransformCache(builder.transformCacheSize, builder.transformKey == null) : null;
+        this.transformKey = builder.transformKey;
+        this.transformVersion = contentVersion != null ? contentVersion.getAsLong() : 0;
+        // subscribed before any session, so sessions transform updated entries after the cache was invalidated
+        if (observable != null && transformCache != null) observable.subscribe(this);
+        this.sharePages = builder.sharePages;
+    }
+
+    void discardSnapshot() {
+        if (snapshot != null) snapshot.discard();
+    }
+
+    static <T> AsyncPageSource<T> adapt(final PageSource<T> source) {
+        return (offset, limit) -> CompletableFuture.completedFuture(slice(source, offset, limit));
+    }
+
+    private static <T> AsyncPageSource.Slice<T> slice(final PageSource<T> source, final int offset, final int limit) {
+        if (source instanceof final CollectionPageSource<T> collection) return collection.slice(offset, limit);
+        if (source instanceof final SnapshotPageSource<T> snapshot) return snapshot.slice(offset, limit);
+        final var size = source.size();
+        final var entries = offset < size ? source.fetch(offset, limit) : List.<T>of();
+        return new AsyncPageSource.Slice<>(entries, size);
+    }
+
+    private static Cache<Object, ActionItem> createTransformCache(final int maximumSize, final boolean identity) {
+        final var builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        // weak keys are compared by identity, entries are released by eviction or invalidation
+        return (identity ? builder.weakKeys() : builder).build();
+    }
+
+    @Override
+    public char contentKey() {
+        return contentKey;
+    }
+
+    @Override
+    public ActionItem transformItem(final T entry) {
+        if (transformCache == null) return itemFunction.apply(entry);
+        if (contentVersion != null) {
+            // items of entries that were changed in place must not outlive the version they were created for
+            final var version = contentVersion.getAsLong();
+            if (version != transformVersion) {
+                transformCache.invalidateAll();
+                transformVersion = version;
+            }
+        }
+        final Object key = transformKey != null ? transformKey.apply(entry) : entry;
+        final var cached = transformCache.getIfPresent(key);
+        if (cached != null) return cached;
+        final var item = itemFunction.apply(entry);
+        transformCache.put(key, item);
+        return item;
+    }
+
+    @Override
+    public ActionItem fallback() {
+        return fallback;
+    }
+
+    @Override
+    public void added(final int index) {
+    }
+
+    @Override
+    public void removed(final int index) {
+    }
+
+    @Override
+    public void updated(final int index) {
+        // the entry changed in place, so its cached item was created from its previous state
+        if (transformCache == null || observable == null) return;
+        final var entry = observable.get(index);
+        transformCache.invalidate(transformKey != null ? transformKey.apply(entry) : entry);
+    }
+
+    void invalidateTransformCache() {
+        if (transformCache != null) transformCache.invalidateAll();
+    }
+
+    long getTransformCacheHits() {
+        return transformCache != null ? transformCache.stats().hitCount() : 0;
+    }
+
+    long getTransformCacheMisses() {
+        return transformCache != null ? transformCache.stats().missCount() : 0;
+    }
+
+    static final class Builder<T> implements ContentRegion.Builder<T> {
+        private @Nullable Character contentKey;
+        private @Nullable AsyncPageSource<T> source;
+        private @Nullable CursorSource<T, ?> cursor;
+        private @Nullable Supplier<? extends Collection<? extends T>> collection;
+        private @Nullable SimpleObservableContent<T> observable;
+        private @Nullable Function<T, ActionItem> itemFunction;
+        private int prefetchDepth = 0;
+        private @Nullable LongSupplier contentVersion = null;
+        private int transformCacheSize = 0;
+        private boolean sharePages = false;
+        private @Nullable Function<? super T, ?> transformKey = null;
+        private ActionItem fallback = new ActionItem(Renderer.scoped(RenderScope.CONSTANT, context -> ItemStack.of(Material.AIR)), context -> {
+        });
+
+        @Override
+        public ContentRegion.Builder<T> mask(final char key) {
+            this.contentKey = key;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> content(final Supplier<? extends Collection<T>> supplier) {
+            content(PageSource.of(supplier));
+            this.collection = supplier;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> content(final Collection<T> collection) {
+            return content(() -> collection);
+        }
+
+        @Override
+        public ContentRegion.Builder<T> content(final PageSource<T> source) {
+            return content(adapt(source));
+        }
+
+        @Override
+        public ContentRegion.Builder<T> content(final AsyncPageSource<T> source) {
+            this.source = source;
+            this.cursor = null;
+            this.collection = null;
+            this.observable = null;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> content(final ObservableContent<T> content) {
+            content((PageSource<T>) content);
+            this.observable = (SimpleObservableContent<T>) content;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> content(final CursorSource<T, ?> source) {
+            this.source = null;
+            this.cursor = source;
+            this.collection = null;
+            this.observable = null;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> transformer(final Function<T, ActionItem> function) {
+            this.itemFunction = function;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> fallback(final ActionItem fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> contentVersion(final LongSupplier version) {
+            this.contentVersion = version;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> prefetch(final int depth) throws IllegalArgumentException {
+            Preconditions.checkArgument(depth >= 0, "Prefetch depth must not be negative: %s", depth);
+            this.prefetchDepth = depth;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> transformCache(final int maximumSize) throws IllegalArgumentException {
+            Preconditions.checkArgument(maximumSize > 0, "Transform cache size must be positive: %s", maximumSize);
+            this.transformCacheSize = maximumSize;
+            this.transformKey = null;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> transformCache(final int maximumSize, final Function<? super T, ?> keyFunction) throws IllegalArgumentException {
+            Preconditions.checkArgument(maximumSize > 0, "Transform cache size must be positive: %s", maximumSize);
+            this.transformCacheSize = maximumSize;
+            this.transformKey = keyFunction;
+            return this;
+        }
+
+        @Override
+        public ContentRegion.Builder<T> sharePages() {
+            this.sharePages = true;
+            return this;
+        }
+
+        @Override
+        public SimpleContentRegion<T> build() throws IllegalStateException {
+            Preconditions.checkState(contentKey != null, "Content mask key not set");
+            Preconditions.checkState(source != null || cursor != null, "Content not set");
+            Preconditions.checkState(itemFunction != null, "Content mapping function not set");
+            Preconditions.checkState(!sharePages || contentVersion != null || observable != null, "Shared pages require a content version");
+            return new SimpleContentRegion<>(this);
+        }
+    }
+}
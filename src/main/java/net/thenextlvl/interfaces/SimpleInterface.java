@@ -13,17 +13,32 @@ import org.bukkit.inventory.MenuType;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 non-sealed class SimpleInterface implements Interface {
-    private final JavaPlugin plugin;
+    private static final Executor DEFAULT_RENDER_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    protected final JavaPlugin plugin;
 
     private final @Nullable BiConsumer<InterfaceSession, InventoryCloseEvent.Reason> onClose;
     private final @Nullable Consumer<InterfaceSession> onOpen;
@@ -34,6 +49,19 @@ non-sealed class SimpleInterface implements Interface {
     private final Layout layout;
     private final Map<Character, ActionItem> slots;
     private final MenuType type;
+    private final RefreshMode refreshMode;
+    private final Executor renderExecutor;
+    private final @Nullable ItemStack loadingItem;
+    private final RenderCache renderCache;
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    private final int slotBudget;
+    private final @Nullable Duration timeBudget;
+    private final char[] renderPriority;
+    private final int[] renderOrder;
+
+    private final boolean frozen;
+    private @Nullable ItemStack @Nullable [] contents = null;
 
     protected SimpleInterface(
             final JavaPlugin plugin,
@@ -42,7 +70,14 @@ non-sealed class SimpleInterface implements Interface {
             final Layout layout,
             @Nullable final Consumer<InterfaceSession> onOpen,
             @Nullable final BiConsumer<InterfaceSession, InventoryCloseEvent.Reason> onClose,
-            final Map<Character, ActionItem> slots
+            final Map<Character, ActionItem> slots,
+            final RefreshMode refreshMode,
+            final Executor renderExecutor,
+            @Nullable final ItemStack loadingItem,
+            final int slotBudget,
+            @Nullable final Duration timeBudget,
+            final char[] renderPriority,
+            final boolean frozen
     ) {
         this.plugin = plugin;
         this.type = type;
@@ -51,6 +86,13 @@ non-sealed class SimpleInterface implements Interface {
         this.onOpen = onOpen;
         this.onClose = onClose;
         this.slots = Map.copyOf(slots);
+        this.refreshMode = refreshMode;
+        this.renderExecutor = renderExecutor;
+        this.loadingItem = loadingItem != null ? loadingItem.clone() : null;
+        this.slotBudget = slotBudget;
+        this.timeBudget = timeBudget;
+        this.renderPriority = renderPriority.clone();
+        this.frozen = frozen;
 
         var column = 1;
         var row = 1;
@@ -58,6 +100,7 @@ non-sealed class SimpleInterface implements Interface {
 
         final var chars = layout.pattern().toCharArray();
         this.items = new Item[layout.size()];
+        this.renderCache = new RenderCache(items.length);
         final var indices = new HashMap<Character, Integer>();
 
         for (final var c : chars) {
@@ -79,6 +122,25 @@ non-sealed class SimpleInterface implements Interface {
             column++;
             slot++;
         }
+
+        this.renderOrder = resolveRenderOrder(items, this.renderPriority);
+    }
+
+    protected SimpleInterface(final JavaPlugin plugin, final SimpleInterface template, final boolean frozen) {
+        this(plugin, template.type, template.title, template.layout, template.onOpen, template.onClose, template.slots,
+                template.refreshMode, template.renderExecutor, template.loadingItem,
+                template.slotBudget, template.timeBudget, template.renderPriority, frozen);
+    }
+
+    private static int[] resolveRenderOrder(final Item[] items, final char[] priority) {
+        final var keys = String.valueOf(priority);
+        return IntStream.range(0, items.length).boxed()
+                .sorted(Comparator.comparingInt(slot -> {
+                    final var index = keys.indexOf(items[slot].key());
+                    return index == -1 ? keys.length() : index;
+                }))
+                .mapToInt(Integer::intValue)
+                .toArray();
     }
 
     @Override
@@ -106,6 +168,21 @@ non-sealed class SimpleInterface implements Interface {
         return onClose;
     }
 
+    @Override
+    public RefreshMode refreshMode() {
+        return refreshMode;
+    }
+
+    @Override
+    public Executor renderExecutor() {
+        return renderExecutor;
+    }
+
+    @Override
+    public @Nullable ItemStack loadingItem() {
+        return loadingItem != null ? loadingItem.clone() : null;
+    }
+
     @Override
     public Map<Character, ActionItem> slots() {
         return Map.copyOf(slots);
@@ -114,23 +191,66 @@ non-sealed class SimpleInterface implements Interface {
     @Override
     public void open(final Player player, final StateHolder holder) {
         final var state = holder instanceof final RenderContext context ? context.session() : holder;
-        open(player, ((SimpleStateHolder) state).state);
+        open(player, ((SimpleStateHolder) state).shared);
     }
 
     @Override
     public void open(final Player player) {
-        open(player, new ConcurrentHashMap<>());
+        open(player, new SimpleStateHolder.SharedState());
     }
 
-    private void open(final Player player, final Map<String, @Nullable Object> state) {
+    private void open(final Player player, final SimpleStateHolder.SharedState state) {
+        open(player, state, null);
+    }
+
+    private boolean open(final Player player, final SimpleStateHolder.SharedState state, final @Nullable Session parent) {
         final var view = type.create(player, title(player));
         final var session = createSession(player, view, state);
-        session.refresh();
-        InterfaceHandler.getInstance(plugin).setSession(player, session);
-        player.openInventory(view);
+        session.parent = parent;
+        if (contents != null) {
+            session.load(contents);
+        } else {
+            session.flush();
+            if (frozen && session.dirty.isEmpty()) contents = session.rendered.clone();
+        }
+        sessionCount.incrementAndGet();
+        if (show(session)) return true;
+        // detached first, so the parent is returned to instead of being closed along with this session
+        session.parent = null;
+        InterfaceHandler.getInstance(plugin).removeSession(session);
+        return false;
     }
 
-    protected Session createSession(final Player player, final InventoryView view, final Map<String, @Nullable Object> state) {
+    private boolean show(final Session session) {
+        InterfaceHandler.getInstance(plugin).setSession(session);
+        // registered sessions are closed by every eviction, which releases what they subscribed to
+        session.opened();
+        session.player.openInventory(session.view);
+        // the view is never shown if another plugin cancelled opening it
+        return session.player.getOpenInventory().getTopInventory().equals(session.view.getTopInventory());
+    }
+
+    @Override
+    public int sessionCount() {
+        return sessionCount.get();
+    }
+
+    @Override
+    public void invalidateRenderCache() {
+        renderCache.clear();
+    }
+
+    @Override
+    public Interface freeze() {
+        if (frozen) return this;
+        for (final var item : items) {
+            final var renderer = item.renderer();
+            if (renderer != null && (renderer.isAsync() || renderer.scope() != RenderScope.CONSTANT)) return this;
+        }
+        return new SimpleInterface(plugin, this, true);
+    }
+
+    protected Session createSession(final Player player, final InventoryView view, final SimpleStateHolder.SharedState state) {
         return new Session(player, view, this, state);
     }
 
@@ -138,28 +258,22 @@ non-sealed class SimpleInterface implements Interface {
     public Interface.Builder toBuilder() {
         final var builder = new Builder();
         builder.slots.putAll(slots);
-        return builder.type(type)
+        builder.type(type)
                 .title(title)
                 .layout(layout)
                 .onOpen(onOpen)
-                .onClose(onClose);
+                .onClose(onClose)
+                .refreshMode(refreshMode)
+                .renderExecutor(renderExecutor)
+                .loadingItem(loadingItem)
+                .renderPriority(renderPriority);
+        builder.slotBudget = slotBudget;
+        builder.timeBudget = timeBudget;
+        return builder;
     }
 
     public void handleClick(final Session session, final InventoryClickEvent event) {
-        if (!event.getView().getTopInventory().equals(event.getClickedInventory())) return;
-        final var slot = event.getSlot();
-        if (slot < 0 || slot >= items.length) return;
-        final var item = items[slot];
-        if (item.action() == null) return;
-        final var context = new SimpleClickContext(
-                session,
-                item.index(),
-                item.row(),
-                item.column(),
-                slot,
-                event.getClick()
-        );
-        item.action().click(context);
+        session.handleClick(event);
     }
 
     public record Item(
@@ -174,15 +288,45 @@ non-sealed class SimpleInterface implements Interface {
     }
 
     public static sealed class Session extends SimpleStateHolder implements InterfaceSession permits SimplePaginatedInterface.Session {
+        private static final int BULK_WRITE_THRESHOLD = 4;
+
         private final SimpleInterface interface_;
-        private final InventoryView view;
         private final Player player;
-
-        Session(final Player player, final InventoryView view, final SimpleInterface interface_, final Map<String, @Nullable Object> state) {
+        private InventoryView view;
+        @Nullable Session parent = null;
+        private boolean suspended = false;
+
+        private @Nullable ActionItem @Nullable [] overrides = null;
+        private final @Nullable ItemStack[] rendered;
+        private final BitSet writes = new BitSet();
+        private long writtenSlots = 0;
+        private long skippedSlots = 0;
+
+        private final Map<String, BitSet> dependencies = new HashMap<>();
+        private final BitSet dirty = new BitSet();
+        private boolean batching = false;
+        private boolean scheduled = false;
+        private boolean closed = false;
+
+        private final int[] generations;
+        private final BitSet rendering = new BitSet();
+        private final Queue<CompletedRender> completed = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean applyScheduled = new AtomicBoolean();
+        private final Queue<BooleanSupplier> idleWork = new ArrayDeque<>();
+        private boolean idleScheduled = false;
+
+        private int budgetTick = -1;
+        private int slotsLeft = 0;
+        private long nanosLeft = 0;
+
+        Session(final Player player, final InventoryView view, final SimpleInterface interface_, final SimpleStateHolder.SharedState state) {
             super(state);
             this.interface_ = interface_;
             this.player = player;
             this.view = view;
+            this.rendered = new ItemStack[interface_.items.length];
+            this.generations = new int[interface_.items.length];
+            this.dirty.set(0, interface_.items.length);
         }
 
         @Override
@@ -203,37 +347,414 @@ non-sealed class SimpleInterface implements Interface {
 
         @Override
         public void refresh() {
-            for (var i = 0; i < interface_.items.length; i++) refreshSlot(i);
+            dirty.set(0, interface_.items.length);
+            requestFlush();
         }
 
         @Override
         public void refresh(final char key) {
             for (var slot = 0; slot < interface_.items.length; slot++) {
-                final var item = interface_.items[slot];
-                if (item.key() != key) continue;
-                refreshSlot(slot, item);
+                if (interface_.items[slot].key() == key) dirty.set(slot);
             }
+            requestFlush();
+        }
+
+        protected final void refresh(final BitSet slots) {
+            dirty.or(slots);
+            requestFlush();
         }
 
         @Override
         public void refreshSlot(final int slot) throws IndexOutOfBoundsException {
             Preconditions.checkElementIndex(slot, interface_.items.length, "Slot");
-            refreshSlot(slot, interface_.items[slot]);
+            dirty.set(slot);
+            requestFlush();
+        }
+
+        protected final void override(final int slot, final ActionItem actionItem) {
+            // the template items are shared by all sessions, so slot changes are kept per session
+            if (overrides == null) overrides = new ActionItem[interface_.items.length];
+            overrides[slot] = actionItem;
+        }
+
+        protected final void invalidateRendered(final int slot) {
+            final var renderer = renderer(slot);
+            if (renderer != null) interface_.renderCache.invalidate(renderer, slot);
+        }
+
+        protected final @Nullable Prerendered prerender(final int slot, final Renderer renderer) {
+            if (renderer.isAsync()) return null;
+            final var cached = interface_.renderCache.get(renderer, player, slot);
+            if (cached != null) return new Prerendered(renderer, cached, Set.of());
+            final var item = interface_.items[slot];
+            final var context = new SimpleRenderContext(this, item.index(), item.row(), item.column(), slot);
+            final var rendered = renderer.render(context);
+            interface_.renderCache.put(renderer, player, slot, rendered);
+            return new Prerendered(renderer, rendered, context.reads());
+        }
+
+        protected final void place(final int slot, final ActionItem actionItem, final @Nullable Prerendered prerendered) {
+            override(slot, actionItem);
+            if (prerendered == null || prerendered.renderer() != actionItem.renderer()) {
+                dirty.set(slot);
+                return;
+            }
+            dirty.clear(slot);
+            generations[slot]++;
+            rendering.clear(slot);
+            dependencies.values().forEach(slots -> slots.clear(slot));
+            prerendered.reads().forEach(key -> dependencies.computeIfAbsent(key, ignored -> new BitSet()).set(slot));
+            write(slot, prerendered.item());
+        }
+
+        protected record Prerendered(Renderer renderer, ItemStack item, Set<String> reads) {
+        }
+
+        protected final void renderIdle(final BooleanSupplier step) {
+            // each step renders one slot and returns whether it has more slots to render
+            idleWork.add(step);
+            scheduleIdle();
+        }
+
+        private void scheduleIdle() {
+            if (idleScheduled) return;
+            idleScheduled = true;
+            runTask(this::runIdle);
+        }
+
+        private void runIdle() {
+            idleScheduled = false;
+            // work that isn't displayed yet takes what flushes left of the render budget, and never more than one full refresh
+            final var start = renewBudget();
+            final var deadline = deadline(start);
+            var limit = interface_.items.length;
+            try {
+                while (!idleWork.isEmpty() && limit-- > 0 && slotsLeft > 0 && System.nanoTime() < deadline) {
+                    slotsLeft--;
+                    if (!idleWork.element().getAsBoolean()) idleWork.remove();
+                }
+            } finally {
+                charge(start);
+            }
+            if (!idleWork.isEmpty()) scheduleIdle();
+        }
+
+        private long renewBudget() {
+            // the budget is shared by all flushes of a tick
+            final var tick = interface_.plugin.getServer().getCurrentTick();
+            if (tick != budgetTick) {
+                budgetTick = tick;
+                slotsLeft = interface_.slotBudget;
+                nanosLeft = interface_.timeBudget != null ? interface_.timeBudget.toNanos() : Long.MAX_VALUE;
+            }
+            return System.nanoTime();
+        }
+
+        private long deadline(final long start) {
+            return nanosLeft != Long.MAX_VALUE ? start + nanosLeft : Long.MAX_VALUE;
+        }
+
+        private void charge(final long start) {
+            if (nanosLeft != Long.MAX_VALUE) nanosLeft = Math.max(0, nanosLeft - (System.nanoTime() - start));
+        }
+
+        protected final void shift(final int[] slots, final int distance) {
+            // each slot takes over the item, rendered stack and dependencies of the slot distance positions after it
+            final var overrides = this.overrides != null ? this.overrides.clone() : null;
+            final var rendered = this.rendered.clone();
+            final var dirty = (BitSet) this.dirty.clone();
+            final var rendering = (BitSet) this.rendering.clone();
+            final var dependencies = new HashMap<String, BitSet>(this.dependencies.size());
+            this.dependencies.forEach((key, slotSet) -> dependencies.put(key, (BitSet) slotSet.clone()));
+            for (var i = 0; i < slots.length; i++) {
+                final var source = i + distance;
+                if (source < 0 || source >= slots.length) continue;
+                final var from = slots[source];
+                final var to = slots[i];
+                generations[to]++;
+                this.rendering.clear(to);
+                if (overrides != null && this.overrides != null) this.overrides[to] = overrides[from];
+                for (final var entry : dependencies.entrySet()) {
+                    this.dependencies.get(entry.getKey()).set(to, entry.getValue().get(from));
+                }
+                // pending renders of the source slot are discarded, so the moved item is rendered again
+                if (dirty.get(from) || rendering.get(from)) {
+                    this.dirty.set(to);
+                } else {
+                    this.dirty.clear(to);
+                    write(to, rendered[from]);
+                }
+            }
+        }
+
+        @Override
+        public void openChild(final Interface child) throws IllegalStateException {
+            Preconditions.checkState(!closed && !suspended, "Session is not open");
+            // opening the child closes the view of this session, which must not close the session itself
+            InterfaceHandler.getInstance(interface_.plugin).background(this);
+            suspended = true;
+            final var simpleChild = (SimpleInterface) child;
+            if (simpleChild.open(player, new SimpleStateHolder.SharedState(), this)) return;
+            // the player returns to this session if the child couldn't be shown
+            if (!resume()) InterfaceHandler.getInstance(interface_.plugin).dismiss(this, InventoryCloseEvent.Reason.UNKNOWN);
+        }
+
+        @Override
+        public boolean back() {
+            final var parent = this.parent;
+            if (closed || suspended || parent == null || !parent.interface_.plugin.isEnabled()) return false;
+            // detached first, so closing this session when the parent opens doesn't discard the parent
+            this.parent = null;
+            if (parent.resume()) return true;
+            // opening the parent closed this session unless the view of this session is still shown
+            if (!closed) this.parent = parent;
+            else InterfaceHandler.getInstance(parent.interface_.plugin).dismiss(parent, InventoryCloseEvent.Reason.UNKNOWN);
+            return false;
+        }
+
+        private boolean resume() {
+            view = interface_.type.create(player, interface_.title(player));
+            suspended = false;
+            // everything rendered so far is written at once, only slots invalidated in the background render again
+            writes.clear();
+            writtenSlots += rendered.length;
+            view.getTopInventory().setContents(rendered);
+            flush();
+            if (interface_.show(this)) return true;
+            // stays in the background until it is returned to or discarded
+            InterfaceHandler.getInstance(interface_.plugin).background(this);
+            suspended = true;
+            return false;
+        }
+
+        void opened() {
+        }
+
+        void close() {
+            if (closed) return;
+            closed = true;
+            interface_.sessionCount.decrementAndGet();
+            detachState();
+            // sessions in the background can only be returned to through this session
+            if (parent != null) parent.close();
         }
 
-        public void refreshSlot(final int slot, final @Nullable Item item) throws IndexOutOfBoundsException {
-            final var context = item != null && item.renderer != null
-                    ? new SimpleRenderContext(this, item.index(), item.row(), item.column(), slot)
-                    : null;
-            view.setItem(slot, context != null ? item.renderer().render(context) : null);
+        protected final boolean isClosed() {
+            return closed;
+        }
+
+        private @Nullable Renderer renderer(final int slot) {
+            final var override = overrides != null ? overrides[slot] : null;
+            return override != null ? override.renderer() : interface_.items[slot].renderer();
+        }
+
+        private @Nullable ClickAction action(final int slot) {
+            final var override = overrides != null ? overrides[slot] : null;
+            return override != null ? override.action() : interface_.items[slot].action();
+        }
+
+        private void render(final int slot) {
+            dirty.clear(slot);
+            dependencies.values().forEach(slots -> slots.clear(slot));
+            // results of asynchronous renders that were started before this render are stale
+            final var generation = ++generations[slot];
+            rendering.clear(slot);
+            final var renderer = renderer(slot);
+            if (renderer == null) {
+                write(slot, null);
+                return;
+            }
+            final var cached = interface_.renderCache.get(renderer, player, slot);
+            if (cached != null) {
+                write(slot, cached);
+                return;
+            }
+            final var item = interface_.items[slot];
+            final var context = new SimpleRenderContext(this, item.index(), item.row(), item.column(), slot);
+            if (renderer.isAsync()) {
+                if (interface_.loadingItem != null) write(slot, interface_.loadingItem);
+                rendering.set(slot);
+                CompletableFuture.supplyAsync(() -> renderer.render(context), interface_.renderExecutor)
+                        .whenComplete((rendered, throwable) -> {
+                            if (throwable != null) interface_.plugin.getComponentLogger().warn(
+                                    "Failed to render slot {} for player '{}'", slot, player.getName(), throwable);
+                            // failed renders still complete, so the loading item doesn't stay in the slot
+                            complete(new CompletedRender(slot, generation, renderer, context, throwable == null ? rendered : null));
+                        });
+                return;
+            }
+            apply(slot, renderer, context, renderer.render(context));
+        }
+
+        private void apply(final int slot, final Renderer renderer, final SimpleRenderContext context, final ItemStack item) {
+            interface_.renderCache.put(renderer, player, slot, item);
+            context.reads().forEach(key -> dependencies.computeIfAbsent(key, ignored -> new BitSet()).set(slot));
+            write(slot, item);
+        }
+
+        private void complete(final CompletedRender render) {
+            completed.add(render);
+            if (!applyScheduled.compareAndSet(false, true)) return;
+            runTask(() -> {
+                applyScheduled.set(false);
+                CompletedRender next;
+                while ((next = completed.poll()) != null) {
+                    if (generations[next.slot()] != next.generation()) continue;
+                    rendering.clear(next.slot());
+                    if (next.item() != null) apply(next.slot(), next.renderer(), next.context(), next.item());
+                    else write(next.slot(), null);
+                }
+                commit();
+            });
+        }
+
+        private record CompletedRender(int slot, int generation, Renderer renderer, SimpleRenderContext context, @Nullable ItemStack item) {
+        }
+
+        protected final void runTask(final Runnable task) {
+            // the scheduler rejects tasks of disabled plugins, and closed sessions have nothing left to do
+            if (closed || !interface_.plugin.isEnabled()) return;
+            interface_.plugin.getServer().getScheduler().runTask(interface_.plugin, task);
+        }
+
+        @Override
+        protected void stateChanged(final String key) {
+            if (!interface_.plugin.getServer().isPrimaryThread()) {
+                runTask(() -> stateChanged(key));
+                return;
+            }
+            final var slots = dependencies.get(key);
+            if (slots == null || slots.isEmpty()) return;
+            dirty.or(slots);
+            requestFlush();
+        }
+
+        private void requestFlush() {
+            if (batching) return;
+            if (interface_.refreshMode == RefreshMode.COALESCED) scheduleFlush();
+            else flush();
+        }
+
+        private void scheduleFlush() {
+            if (scheduled) return;
+            scheduled = true;
+            runTask(() -> {
+                scheduled = false;
+                flush();
+            });
+        }
+
+        private void batch(final Runnable runnable) {
+            if (batching) {
+                runnable.run();
+                return;
+            }
+            batching = true;
+            try {
+                runnable.run();
+            } finally {
+                batching = false;
+                requestFlush();
+            }
+        }
+
+        protected void flush() {
+            // changes made in the background are rendered once the session is resumed
+            if (suspended) return;
+            batching = true;
+            final var start = renewBudget();
+            try {
+                renderDirty(deadline(start));
+            } finally {
+                charge(start);
+                batching = false;
+                commit();
+            }
+        }
+
+        private void renderDirty(final long deadline) {
+            // every slot is rendered at most once per flush, so renderers writing state they depend on can't loop
+            final var flushed = new BitSet(interface_.items.length);
+            while (true) {
+                final var pending = (BitSet) dirty.clone();
+                pending.andNot(flushed);
+                if (pending.isEmpty()) {
+                    // slots invalidated again after they were rendered in this flush are rendered by the next one
+                    if (!dirty.isEmpty()) scheduleFlush();
+                    return;
+                }
+                for (final var slot : interface_.renderOrder) {
+                    if (!pending.get(slot)) continue;
+                    if (slotsLeft <= 0 || System.nanoTime() >= deadline) {
+                        deferRemaining();
+                        return;
+                    }
+                    slotsLeft--;
+                    flushed.set(slot);
+                    render(slot);
+                }
+            }
+        }
+
+        private void deferRemaining() {
+            if (interface_.loadingItem != null) dirty.stream()
+                    .filter(slot -> rendered[slot] == null)
+                    .forEach(slot -> write(slot, interface_.loadingItem));
+            scheduleFlush();
+        }
+
+        private void load(final @Nullable ItemStack[] contents) {
+            dirty.clear();
+            System.arraycopy(contents, 0, rendered, 0, contents.length);
+            writtenSlots += contents.length;
+            view.getTopInventory().setContents(contents);
+        }
+
+        private void write(final int slot, final @Nullable ItemStack item) {
+            final var previous = rendered[slot];
+            // identity covers renderers returning the same instance, equality covers structurally equal copies
+            if (previous == item || (previous != null && previous.equals(item))) {
+                skippedSlots++;
+                return;
+            }
+            rendered[slot] = item;
+            writes.set(slot);
+        }
+
+        private void commit() {
+            if (suspended || writes.isEmpty()) return;
+            // slots are counted once they reach the view, changes in the background are written by resuming
+            writtenSlots += writes.cardinality();
+            if (writes.cardinality() <= BULK_WRITE_THRESHOLD) {
+                writes.stream().forEach(slot -> view.setItem(slot, rendered[slot]));
+            } else {
+                final var inventory = view.getTopInventory();
+                final var contents = inventory.getContents();
+                writes.stream().forEach(slot -> contents[slot] = rendered[slot]);
+                inventory.setContents(contents);
+                // resend all contents at once instead of letting the server sync each changed slot on its own
+                if (player.getOpenInventory().equals(view)) player.updateInventory();
+            }
+            writes.clear();
+        }
+
+        @Override
+        public long getWrittenSlotCount() {
+            return writtenSlots;
+        }
+
+        @Override
+        public long getSkippedSlotCount() {
+            return skippedSlots;
         }
 
         public void handleClick(final InventoryClickEvent event) {
             if (!event.getView().getTopInventory().equals(event.getClickedInventory())) return;
             final var slot = event.getSlot();
             if (slot < 0 || slot >= interface_.items.length) return;
+            final var action = action(slot);
+            if (action == null) return;
             final var item = interface_.items[slot];
-            if (item.action() == null) return;
             final var context = new SimpleClickContext(
                     this,
                     item.index(),
@@ -242,7 +763,7 @@ non-sealed class SimpleInterface implements Interface {
                     slot,
                     event.getClick()
             );
-            item.action().click(context);
+            batch(() -> action.click(context));
         }
 
         @Override
@@ -255,6 +776,12 @@ non-sealed class SimpleInterface implements Interface {
         private @Nullable BiConsumer<InterfaceSession, InventoryCloseEvent.Reason> onClose = null;
         private @Nullable Function<Player, Component> title = null;
         private @Nullable Consumer<InterfaceSession> onOpen = null;
+        private RefreshMode refreshMode = RefreshMode.IMMEDIATE;
+        private Executor renderExecutor = DEFAULT_RENDER_EXECUTOR;
+        private @Nullable ItemStack loadingItem = null;
+        private int slotBudget = Integer.MAX_VALUE;
+        private @Nullable Duration timeBudget = null;
+        private char[] renderPriority = new char[0];
 
         private Layout layout = Layout.empty();
         private @Nullable MenuType type = null;
@@ -303,7 +830,7 @@ non-sealed class SimpleInterface implements Interface {
         @Override
         public Interface.Builder slot(final char slot, final ItemStack item, final ClickAction action) {
             final var clone = item.clone();
-            this.slots.put(slot, new ActionItem(context -> clone, action));
+            this.slots.put(slot, new ActionItem(Renderer.scoped(RenderScope.CONSTANT, context -> clone), action));
             return this;
         }
 
@@ -325,6 +852,44 @@ non-sealed class SimpleInterface implements Interface {
             return this;
         }
 
+        @Override
+        public Interface.Builder refreshMode(final RefreshMode mode) {
+            this.refreshMode = mode;
+            return this;
+        }
+
+        @Override
+        public Interface.Builder renderExecutor(final Executor executor) {
+            this.renderExecutor = executor;
+            return this;
+        }
+
+        @Override
+        public Interface.Builder loadingItem(@Nullable final ItemStack item) {
+            this.loadingItem = item;
+            return this;
+        }
+
+        @Override
+        public Interface.Builder renderBudget(final int slots) throws IllegalArgumentException {
+            Preconditions.checkArgument(slots > 0, "Render budget must be positive: %s", slots);
+            this.slotBudget = slots;
+            return this;
+        }
+
+        @Override
+        public Interface.Builder renderBudget(final Duration time) throws IllegalArgumentException {
+            Preconditions.checkArgument(time.isPositive(), "Render budget must be positive: %s", time);
+            this.timeBudget = time;
+            return this;
+        }
+
+        @Override
+        public Interface.Builder renderPriority(final char... keys) {
+            this.renderPriority = keys.clone();
+            return this;
+        }
+
         @Override
         @SuppressWarnings("MagicConstant")
         public Interface.Builder rows(final int rows) throws IllegalArgumentException {
@@ -355,7 +920,8 @@ non-sealed class SimpleInterface implements Interface {
             if (!layout.pattern().isEmpty() || layout.hasMasks() || !slots.isEmpty()) {
                 validatePattern(dimensions.getKey(), dimensions.getValue());
             }
-            return new SimpleInterface(plugin, type, title, layout, onOpen, onClose, slots);
+            return new SimpleInterface(plugin, type, title, layout, onOpen, onClose, slots, refreshMode,
+                    renderExecutor, loadingItem, slotBudget, timeBudget, renderPriority, false);
         }
 
         @Override
@@ -103,7 +103,7 @@ final class SimpleLayout implements Layout {
 
         @Override
         public Layout.Builder mask(final char mask, final ItemStack item) {
-            this.items.put(mask, context -> item);
+            this.items.put(mask, Renderer.scoped(RenderScope.CONSTANT, context -> item));
             return this;
         }
 
@@ -0,0 +1,107 @@
+package net.thenextlvl.interfaces;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+final class SimpleObservableContent<T> implements ObservableContent<T> {
+    private final List<T> entries;
+    private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<>();
+    // positions from the first insertion or removal on are updated once an entry behind it is looked up
+    private final Map<T, Integer> positions = new IdentityHashMap<>();
+    private int indexed = 0;
+    private long version = 0;
+
+    SimpleObservableContent(final Collection<? extends T> entries) {
+        this.entries = new ArrayList<>(entries);
+    }
+
+    void subscribe(final Listener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    void unsubscribe(final Listener listener) {
+        listeners.remove(listener);
+    }
+
+    T get(final int index) {
+        return entries.get(index);
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public List<T> fetch(final int offset, final int limit) {
+        if (offset >= entries.size()) return List.of();
+        return List.copyOf(entries.subList(offset, Math.min(entries.size(), offset + limit)));
+    }
+
+    @Override
+    public void add(final T entry) throws IllegalStateException {
+        add(entries.size(), entry);
+    }
+
+    @Override
+    public void add(final int index, final T entry) throws IndexOutOfBoundsException, IllegalStateException {
+        Preconditions.checkState(Bukkit.isPrimaryThread(), "Content must be modified on the main thread");
+        Preconditions.checkPositionIndex(index, entries.size(), "Index");
+        entries.add(index, entry);
+        if (index == indexed && index == entries.size() - 1) positions.put(entry, indexed++);
+        else indexed = Math.min(indexed, index);
+        version++;
+        listeners.forEach(listener -> listener.added(index));
+    }
+
+    @Override
+    public boolean remove(final T entry) throws IllegalStateException {
+        Preconditions.checkState(Bukkit.isPrimaryThread(), "Content must be modified on the main thread");
+        final var index = indexOf(entry);
+        if (index == -1) return false;
+        entries.remove(index);
+        positions.remove(entry);
+        indexed = Math.min(indexed, index);
+        version++;
+        listeners.forEach(listener -> listener.removed(index));
+        return true;
+    }
+
+    @Override
+    public boolean update(final T entry) throws IllegalStateException {
+        Preconditions.checkState(Bukkit.isPrimaryThread(), "Content must be modified on the main thread");
+        final var index = indexOf(entry);
+        if (index == -1) return false;
+        version++;
+        listeners.forEach(listener -> listener.updated(index));
+        return true;
+    }
+
+    private int indexOf(final T entry) {
+        final var position = positions.get(entry);
+        if (position != null && position < indexed) return position;
+        for (; indexed < entries.size(); indexed++) positions.put(entries.get(indexed), indexed);
+        final var updated = positions.get(entry);
+        return updated != null ? updated : -1;
+    }
+
+    interface Listener {
+        void added(int index);
+
+        void removed(int index);
+
+        void updated(int index);
+    }
+}
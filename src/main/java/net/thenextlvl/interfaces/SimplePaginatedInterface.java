@@ -1,41 +1,55 @@
 package net.thenextlvl.interfaces;
 
 import com.google.common.base.Preconditions;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.InventoryView;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 final class SimplePaginatedInterface<T> extends SimpleInterface implements PaginatedInterface<T> {
-    private final char contentKey;
-    private final Supplier<? extends Collection<? extends T>> contentSupplier;
-    private final Function<T, ActionItem> itemFunction;
-    private final ActionItem fallback;
-    private final int[] contentSlots;
+    private final SimpleContentRegion<T> content;
+    private final List<SimpleContentRegion<?>> regions;
+    private final int[][] regionSlots;
+    private final BitSet otherSlots;
+    private final @Nullable SharedPages[] sharedPages;
 
     SimplePaginatedInterface(
             final JavaPlugin plugin,
             final SimpleInterface template,
-            final char contentKey,
-            final Supplier<? extends Collection<? extends T>> contentSupplier,
-            final Function<T, ActionItem> itemFunction,
-            final ActionItem fallback
+            final SimpleContentRegion<T> content,
+            final List<SimpleContentRegion<?>> regions
     ) {
-        super(plugin, template.menuType(), template.title, template.layout(), template.onOpen(), template.onClose(), template.slots());
-        this.contentKey = contentKey;
-        this.contentSupplier = contentSupplier;
-        this.itemFunction = itemFunction;
-        this.fallback = fallback;
-        this.contentSlots = resolveContentSlots(template.layout(), contentKey);
+        super(plugin, template, false);
+        this.content = content;
+        this.regions = regions;
+        this.regionSlots = new int[regions.size()][];
+        this.sharedPages = new SharedPages[regions.size()];
+        this.otherSlots = new BitSet(items.length);
+        otherSlots.set(0, items.length);
+        for (var i = 0; i < regions.size(); i++) {
+            regionSlots[i] = resolveContentSlots(template.layout(), regions.get(i).contentKey);
+            for (final var slot : regionSlots[i]) otherSlots.clear(slot);
+            // pages are rendered for the slots of this interface, so regions used by several interfaces share them per interface
+            if (regions.get(i).sharePages) sharedPages[i] = new SharedPages();
+        }
     }
 
     private static int[] resolveContentSlots(final Layout layout, final char contentKey) {
@@ -52,37 +66,62 @@ final class SimplePaginatedInterface<T> extends SimpleInterface implements Pagin
 
     @Override
     public char contentKey() {
-        return contentKey;
+        return content.contentKey();
     }
 
     @Override
     public ActionItem transformItem(final T entry) {
-        return itemFunction.apply(entry);
+        return content.transformItem(entry);
+    }
+
+    @Override
+    public void invalidateTransformCache() {
+        regions.forEach(SimpleContentRegion::invalidateTransformCache);
+    }
+
+    @Override
+    public long getTransformCacheHits() {
+        return regions.stream().mapToLong(SimpleContentRegion::getTransformCacheHits).sum();
+    }
+
+    @Override
+    public long getTransformCacheMisses() {
+        return regions.stream().mapToLong(SimpleContentRegion::getTransformCacheMisses).sum();
     }
 
     @Override
     public ActionItem fallback() {
-        return fallback;
+        return content.fallback();
+    }
+
+    @Override
+    public Interface freeze() {
+        return this;
     }
 
     @Override
-    protected SimpleInterface.Session createSession(final Player player, final InventoryView view, final Map<String, @Nullable Object> state) {
+    protected SimpleInterface.Session createSession(final Player player, final InventoryView view, final SimpleStateHolder.SharedState state) {
         return new Session<>(player, view, this, state);
     }
 
-    static final class Session<T> extends SimpleInterface.Session implements PaginatedSession {
-        private List<T> content;
-        private int page;
+    static final class Session<T> extends SimpleInterface.Session implements PaginatedSession<T> {
+        private final List<Region<?>> regions;
+        private final Region<T> content;
 
+        @SuppressWarnings("unchecked")
         private Session(
                 final Player player,
                 final InventoryView view,
                 final SimplePaginatedInterface<T> paginatedInterface,
-                final Map<String, @Nullable Object> state
+                final SimpleStateHolder.SharedState state
         ) {
             super(player, view, paginatedInterface, state);
-            this.page = 0;
-            this.content = List.copyOf(paginatedInterface.contentSupplier.get());
+            final var regions = new ArrayList<Region<?>>(paginatedInterface.regions.size());
+            for (var i = 0; i < paginatedInterface.regions.size(); i++) {
+                regions.add(new Region<>(paginatedInterface.regions.get(i), paginatedInterface.regionSlots[i], paginatedInterface.sharedPages[i]));
+            }
+            this.regions = List.copyOf(regions);
+            this.content = (Region<T>) this.regions.getFirst();
         }
 
         @Override
@@ -91,69 +130,599 @@ final class SimplePaginatedInterface<T> extends SimpleInterface implements Pagin
             return (SimplePaginatedInterface<T>) super.getInterface();
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <E> RegionSession<E> getRegion(final ContentRegion<E> region) throws IllegalArgumentException {
+            for (final var candidate : regions) {
+                if (candidate.region == region) return (Region<E>) candidate;
+            }
+            throw new IllegalArgumentException("Region is not part of the interface");
+        }
+
         @Override
         public int getCurrentPage() {
-            return page;
+            return content.getCurrentPage();
         }
 
         @Override
         public int getPageSize() {
-            return getInterface().contentSlots.length;
+            return content.getPageSize();
         }
 
         @Override
         public int getPageCount() {
-            return Math.max(1, (int) Math.ceil((double) content.size() / getPageSize()));
+            return content.getPageCount();
         }
 
         @Override
         public boolean setPage(final int page) {
-            if (page == this.page || page < 0 || page >= getPageCount()) return false;
-            this.page = page;
-            refresh();
-            return true;
+            return content.setPage(page);
+        }
+
+        @Override
+        public @Nullable Predicate<? super T> getFilter() {
+            return content.getFilter();
+        }
+
+        @Override
+        public boolean scroll(final int rows) throws UnsupportedOperationException {
+            return content.scroll(rows);
+        }
+
+        @Override
+        public void setFilter(final @Nullable Predicate<? super T> filter) throws UnsupportedOperationException {
+            content.setFilter(filter);
+        }
+
+        @Override
+        public @Nullable Comparator<? super T> getSort() {
+            return content.getSort();
+        }
+
+        @Override
+        public void setSort(final @Nullable Comparator<? super T> comparator) throws UnsupportedOperationException {
+            content.setSort(comparator);
         }
 
         @Override
         public void refresh() {
-            updateContentItems();
-            super.refresh();
+            final var slots = (BitSet) getInterface().otherSlots.clone();
+            for (final var region : regions) {
+                if (!region.contentChanged()) continue;
+                // the collection may have changed in this tick after the copy was taken
+                region.region.discardSnapshot();
+                region.contentDirty = true;
+                region.discardPrefetched();
+                slots.or(region.slotSet);
+            }
+            refresh(slots);
+        }
+
+        @Override
+        protected void stateChanged(final String key) {
+            // changes from other threads are forwarded to the main thread by the super implementation
+            if (getInterface().plugin.getServer().isPrimaryThread()) regions.forEach(region -> region.stateChanged(key));
+            super.stateChanged(key);
+        }
+
+        @Override
+        void opened() {
+            for (final var region : regions) {
+                if (region.region.observable != null) region.region.observable.subscribe(region);
+            }
+        }
+
+        @Override
+        void close() {
+            super.close();
+            for (final var region : regions) {
+                if (region.pending != null) region.pending.cancel(false);
+                if (region.region.observable != null) region.region.observable.unsubscribe(region);
+                region.discardPrefetched();
+            }
         }
 
         @Override
         public void refresh(final char key) {
-            if (key == getInterface().contentKey) updateContentItems();
+            for (final var region : regions) {
+                if (key != region.region.contentKey || !region.contentChanged()) continue;
+                region.region.discardSnapshot();
+                region.contentDirty = true;
+            }
             super.refresh(key);
         }
 
-        private void updateContentItems() {
-            this.content = List.copyOf(getInterface().contentSupplier.get());
-            final var pages = getPageCount();
-            if (page >= pages) page = Math.max(0, pages - 1);
+        @Override
+        protected void flush() {
+            for (final var region : regions) {
+                if (!region.contentDirty) continue;
+                region.contentDirty = false;
+                region.updateContentItems();
+            }
+            super.flush();
+        }
+
+        final class Region<E> implements RegionSession<E>, SimpleObservableContent.Listener {
+            private final SimpleContentRegion<E> region;
+            private final int[] slots;
+            private final BitSet slotSet;
+            private final int rowWidth;
+            private final @Nullable CursorPager<E, ?> pager;
+            private final @Nullable SharedPages sharedPages;
+
+            private List<E> content = List.of();
+            private boolean contentDirty = true;
+            private int size = 0;
+            private @Nullable CompletableFuture<?> pending = null;
+            private @Nullable Long version = null;
+            private @Nullable IndexedPageSource<E> view = null;
+
+            private final Map<Integer, PrefetchedPage<E>> prefetched = new HashMap<>();
+            private final Set<Integer> prefetching = new HashSet<>();
+            private final Map<Integer, Set<String>> prerendering = new HashMap<>();
+            private int prefetchGeneration = 0;
+            private int offset = 0;
+
+            private Region(final SimpleContentRegion<E> region, final int[] slots, final @Nullable SharedPages sharedPages) {
+                this.region = region;
+                this.slots = slots;
+                this.sharedPages = sharedPages;
+                this.slotSet = new BitSet();
+                for (final var slot : slots) slotSet.set(slot);
+                this.rowWidth = slots.length == 0 ? 0 : (int) Arrays.stream(slots)
+                        .filter(slot -> getInterface().items[slot].row() == getInterface().items[slots[0]].row())
+                        .count();
+                this.pager = region.cursor != null ? new CursorPager<>(region.cursor) : null;
+            }
+
+            @Override
+            public void added(final int index) {
+                if (!isObserving()) return;
+                final var pages = getPageCount();
+                this.size++;
+                if (index >= offset + slots.length) {
+                    observed(pages, new BitSet());
+                    return;
+                }
+                // entries before the page push the whole page, entries on the page push the ones behind them
+                final var from = Math.max(0, index - offset);
+                shift(Arrays.copyOfRange(slots, from, slots.length), -1);
+                observed(pages, replace(from));
+            }
+
+            @Override
+            public void removed(final int index) {
+                if (!isObserving()) return;
+                final var pages = getPageCount();
+                this.size--;
+                if (offset > 0 && offset >= size) {
+                    // the last entry of the last page was removed
+                    contentDirty = true;
+                    refreshRegion();
+                    return;
+                }
+                if (index >= offset + slots.length) {
+                    observed(pages, new BitSet());
+                    return;
+                }
+                final var from = Math.max(0, index - offset);
+                shift(Arrays.copyOfRange(slots, from, slots.length), 1);
+                observed(pages, replace(slots.length - 1));
+            }
+
+            @Override
+            public void updated(final int index) {
+                if (!isObserving()) return;
+                if (index < offset || index >= offset + slots.length) {
+                    observed(getPageCount(), new BitSet());
+                    return;
+                }
+                final var changed = replace(index - offset);
+                // the renderer of a cached item may be reused, and its stack was rendered from the previous state
+                invalidateRendered(slots[index - offset]);
+                observed(getPageCount(), changed);
+            }
+
+            private boolean isObserving() {
+                if (isClosed()) return false;
+                if (view == null && pending == null && !contentDirty) return true;
+                // the displayed entries can't be mapped to the change, so the page is loaded again
+                contentDirty = true;
+                refreshRegion();
+                return false;
+            }
+
+            private BitSet replace(final int index) {
+                final var observable = Objects.requireNonNull(region.observable);
+                final E entry = offset + index < observable.size() ? observable.get(offset + index) : null;
+                override(slots[index], entry != null ? region.transformItem(entry) : region.fallback());
+                final var changed = new BitSet();
+                changed.set(slots[index]);
+                return changed;
+            }
+
+            private void observed(final int pages, final BitSet changed) {
+                this.version = currentVersion();
+                if (!changed.isEmpty()) this.content = Objects.requireNonNull(region.observable).fetch(offset, slots.length);
+                // the slots outside any content may display the page count
+                if (pages != getPageCount()) changed.or(getInterface().otherSlots);
+                if (!changed.isEmpty()) refresh(changed);
+            }
+
+            @Override
+            public ContentRegion<E> getRegion() {
+                return region;
+            }
+
+            @Override
+            public int getCurrentPage() {
+                return offset / getPageSize();
+            }
+
+            @Override
+            public int getPageSize() {
+                return slots.length;
+            }
+
+            @Override
+            public int getPageCount() {
+                return Math.max(1, (int) Math.ceil((double) size / getPageSize()));
+            }
+
+            @Override
+            public boolean setPage(final int page) {
+                if (page * getPageSize() == offset || page < 0 || page >= getPageCount()) return false;
+                if (pager != null && !pager.canReach(page)) return false;
+                this.offset = page * getPageSize();
+                contentDirty = true;
+                refreshRegion();
+                return true;
+            }
+
+            @Override
+            public boolean scroll(final int rows) throws UnsupportedOperationException {
+                if (pager != null) throw new UnsupportedOperationException("Content provided by a cursor source can't be scrolled");
+                if (rowWidth == 0 || slots.length % rowWidth != 0)
+                    throw new UnsupportedOperationException("Content slots don't form rows of equal width");
+                final var last = Math.max(0, (int) Math.ceil((double) (size - slots.length) / rowWidth) * rowWidth);
+                final var target = (int) Math.clamp(offset + (long) rows * rowWidth, 0, last);
+                if (target == offset) return false;
+                final var distance = target - offset;
+                this.offset = target;
+                if (contentDirty || pending != null || Math.abs(distance) >= slots.length) {
+                    contentDirty = true;
+                    refreshRegion();
+                    return true;
+                }
+
+                // the rows that stay visible keep their rendered items, only the exposed rows are loaded
+                shift(slots, distance);
+                final var first = distance > 0 ? slots.length - distance : 0;
+                final var count = Math.abs(distance);
+                final var kept = distance > 0 ? content.subList(Math.min(distance, content.size()), content.size())
+                        : content.subList(0, Math.min(content.size(), slots.length - count));
+                final var future = source().fetch(target + first, count);
+                if (future.isDone() && !future.isCompletedExceptionally()) {
+                    exposeRows(first, count, kept, future.join());
+                    return true;
+                }
+                pending = future;
+                for (var i = first; i < first + count; i++) override(slots[i], region.fallback());
+                final var paginated = getInterface();
+                future.whenComplete((slice, throwable) -> runTask(() -> {
+                    if (pending != future) return;
+                    pending = null;
+                    if (throwable != null) {
+                        paginated.plugin.getComponentLogger().warn("Failed to load rows at {} for player '{}'", target + first, player().getName(), throwable);
+                        return;
+                    }
+                    exposeRows(first, count, kept, slice);
+                }));
+                refresh(exposed(first, count));
+                return true;
+            }
+
+            private void exposeRows(final int first, final int count, final List<E> kept, final AsyncPageSource.Slice<E> slice) {
+                this.size = slice.size();
+                final var shifted = new ArrayList<E>(slots.length);
+                if (first == 0) shifted.addAll(slice.entries());
+                shifted.addAll(kept);
+                if (first != 0) shifted.addAll(slice.entries());
+                this.content = List.copyOf(shifted);
+                for (var i = first; i < first + count; i++) {
+                    final var index = i - first;
+                    final E element = index < slice.entries().size() ? slice.entries().get(index) : null;
+                    override(slots[i], element != null ? region.transformItem(element) : region.fallback());
+                }
+                refresh(exposed(first, count));
+            }
+
+            private BitSet exposed(final int first, final int count) {
+                final var exposed = (BitSet) getInterface().otherSlots.clone();
+                for (var i = first; i < first + count; i++) exposed.set(slots[i]);
+                return exposed;
+            }
+
+            @Override
+            public @Nullable Predicate<? super E> getFilter() {
+                return view != null ? view.filter() : null;
+            }
+
+            @Override
+            public void setFilter(final @Nullable Predicate<? super E> filter) throws UnsupportedOperationException {
+                setView(filter, getSort());
+            }
+
+            @Override
+            public @Nullable Comparator<? super E> getSort() {
+                return view != null ? view.comparator() : null;
+            }
+
+            @Override
+            public void setSort(final @Nullable Comparator<? super E> comparator) throws UnsupportedOperationException {
+                setView(getFilter(), comparator);
+            }
+
+            private void setView(final @Nullable Predicate<? super E> filter, final @Nullable Comparator<? super E> comparator) {
+                final var collection = region.collection;
+                if (collection == null) throw new UnsupportedOperationException("Content is not provided by a collection");
+                this.view = filter != null || comparator != null ? new IndexedPageSource<>(collection, filter, comparator) : null;
+                this.offset = 0;
+                contentDirty = true;
+                discardPrefetched();
+                refreshRegion();
+            }
+
+            private void refreshRegion() {
+                // the slots outside any content may display the page of this region
+                final var slots = (BitSet) getInterface().otherSlots.clone();
+                slots.or(slotSet);
+                refresh(slots);
+            }
+
+            private boolean isAligned() {
+                return offset % getPageSize() == 0;
+            }
+
+            private AsyncPageSource<E> source() {
+                if (view != null) return SimpleContentRegion.adapt(view);
+                return Objects.requireNonNull(region.source, "Content is provided by a cursor source");
+            }
+
+            private CompletableFuture<LoadedPage<E>> load(final int offset) {
+                if (pager != null) return pager.fetch(offset / getPageSize(), getPageSize());
+                return source().fetch(offset, getPageSize()).thenApply(slice -> new LoadedPage<>(offset, slice));
+            }
+
+            private @Nullable Long currentVersion() {
+                final var supplier = region.contentVersion;
+                return supplier != null ? supplier.getAsLong() : null;
+            }
+
+            private boolean contentChanged() {
+                final var current = currentVersion();
+                return current == null || !current.equals(version);
+            }
+
+            private void updateContentItems() {
+                final var paginated = getInterface();
+                // a newer page request supersedes the one still in flight
+                if (pending != null) pending.cancel(false);
+                final var requested = offset;
+                final var requestedVersion = currentVersion();
+                if (view != null) view.update(requestedVersion);
+                final var prefetchedPage = isAligned() ? prefetched.remove(getCurrentPage()) : null;
+                if (prefetchedPage != null && !Objects.equals(prefetchedPage.version(), requestedVersion)) {
+                    discardPrefetched();
+                } else if (prefetchedPage != null) {
+                    pending = null;
+                    this.version = requestedVersion;
+                    this.size = prefetchedPage.slice().size();
+                    this.content = prefetchedPage.slice().entries();
+                    for (var i = 0; i < slots.length; i++) {
+                        place(slots[i], prefetchedPage.items()[i], prefetchedPage.rendered()[i]);
+                    }
+                    prefetch();
+                    return;
+                }
+                final var future = load(requested);
+                if (future.isDone() && !future.isCompletedExceptionally()) {
+                    pending = null;
+                    final var loaded = future.join();
+                    updateContentItems(loaded.offset(), requestedVersion, loaded.slice());
+                    return;
+                }
+                pending = future;
+                for (final var slot : slots) override(slot, region.fallback());
+                future.whenComplete((loaded, throwable) -> runTask(() -> {
+                    if (pending != future) return;
+                    pending = null;
+                    if (throwable != null) {
+                        paginated.plugin.getComponentLogger().warn("Failed to load page {} for player '{}'", requested / getPageSize(), player().getName(), throwable);
+                        return;
+                    }
+                    updateContentItems(loaded.offset(), requestedVersion, loaded.slice());
+                    // the slots outside any content may display the page count, which is only known once the page loaded
+                    final var changed = (BitSet) paginated.otherSlots.clone();
+                    // shared pages are placed already rendered, others are rendered by the flush
+                    if (sharedPages == null) changed.or(slotSet);
+                    refresh(changed);
+                }));
+            }
+
+            private void updateContentItems(final int requested, final @Nullable Long requestedVersion, final AsyncPageSource.Slice<E> slice) {
+                this.offset = requested;
+                this.version = requestedVersion;
+                this.size = slice.size();
+                if (requested >= size && requested > 0) {
+                    offset = (getPageCount() - 1) * getPageSize();
+                    updateContentItems();
+                    return;
+                }
+
+                this.content = slice.entries();
+                if (pager != null) pager.anchor(getCurrentPage(), content);
+                if (sharedPages != null) {
+                    final var shared = sharedPage(sharedPages, offset, requestedVersion, content);
+                    for (var i = 0; i < slots.length; i++) place(slots[i], shared.items()[i], shared.rendered()[i]);
+                } else for (var i = 0; i < slots.length; i++) {
+                    final E element = i < content.size() ? content.get(i) : null;
+                    override(slots[i], element != null ? region.transformItem(element) : region.fallback());
+                }
+                prefetch();
+            }
+
+            private void prefetch() {
+                // cursor pages are anchored by the current page and can't be loaded ahead of it
+                if (pager != null || slots.length == 0 || !isAligned()) return;
+                final var depth = region.prefetchDepth;
+                final var page = getCurrentPage();
+                prefetched.keySet().removeIf(target -> Math.abs(target - page) > depth);
+                for (var distance = 1; distance <= depth; distance++) {
+                    prefetch(page - distance);
+                    prefetch(page + distance);
+                }
+            }
+
+            private void prefetch(final int target) {
+                if (target < 0 || target >= getPageCount()) return;
+                if (prefetched.containsKey(target) || !prefetching.add(target)) return;
+                final var generation = prefetchGeneration;
+                final var requestedVersion = currentVersion();
+                // the entries are loaded in the background, but renderers are only called on the main thread
+                source().fetch(target * getPageSize(), getPageSize()).whenComplete((slice, throwable) -> runTask(() -> {
+                    if (generation != prefetchGeneration) return;
+                    if (throwable != null || !isPrefetchable(target)) {
+                        prefetching.remove(target);
+                        return;
+                    }
+                    prerenderPage(target, slice, requestedVersion, generation);
+                }));
+            }
+
+            private boolean isPrefetchable(final int target) {
+                return target * getPageSize() != offset && Math.abs(target - getCurrentPage()) <= region.prefetchDepth;
+            }
+
+            private void prerenderPage(final int target, final AsyncPageSource.Slice<E> slice, final @Nullable Long version, final int generation) {
+                final var shared = sharedPages != null ? sharedPages.get(Objects.requireNonNull(version), target * getPageSize()) : null;
+                if (shared != null) {
+                    prefetched(target, slice, version, shared);
+                    return;
+                }
+                // the page is rendered one slot at a time within the render budget, spread over as many ticks as needed
+                final var page = new SharedPage(new ActionItem[slots.length], new Prerendered[slots.length]);
+                final var next = new AtomicInteger();
+                final var reads = new HashSet<String>();
+                prerendering.put(target, reads);
+                renderIdle(() -> {
+                    // the page starts over once a state it read changed
+                    if (generation != prefetchGeneration || prerendering.get(target) != reads) return false;
+                    final var i = next.getAndIncrement();
+                    final E element = i < slice.entries().size() ? slice.entries().get(i) : null;
+                    page.items()[i] = element != null ? region.transformItem(element) : region.fallback();
+                    final var rendered = prerender(slots[i], page.items()[i].renderer());
+                    if (rendered != null) reads.addAll(rendered.reads());
+                    page.rendered()[i] = rendered;
+                    if (i + 1 < slots.length) return true;
+                    prerendering.remove(target);
+                    if (sharedPages != null) sharedPages.put(Objects.requireNonNull(version), currentStamp(), target * getPageSize(), page);
+                    prefetched(target, slice, version, page);
+                    return false;
+                });
+            }
+
+            private void prefetched(final int target, final AsyncPageSource.Slice<E> slice, final @Nullable Long version, final SharedPage page) {
+                prefetching.remove(target);
+                if (!isPrefetchable(target)) return;
+                final var reads = new HashSet<String>();
+                for (final var rendered : page.rendered()) if (rendered != null) reads.addAll(rendered.reads());
+                prefetched.put(target, new PrefetchedPage<>(slice, version, page.items(), page.rendered(), reads));
+            }
+
+            private SharedPage sharedPage(final SharedPages sharedPages, final int offset, final @Nullable Long version, final List<E> entries) {
+                // shared pages require a content version, which the builder checks
+                final long stamp = Objects.requireNonNull(version);
+                final var cached = sharedPages.get(stamp, offset);
+                if (cached != null) return cached;
+                final var page = renderPage(entries);
+                sharedPages.put(stamp, currentStamp(), offset, page);
+                return page;
+            }
+
+            private long currentStamp() {
+                return Objects.requireNonNull(currentVersion());
+            }
+
+            private SharedPage renderPage(final List<E> entries) {
+                final var items = new ActionItem[slots.length];
+                final var rendered = new Prerendered[slots.length];
+                for (var i = 0; i < items.length; i++) {
+                    final E element = i < entries.size() ? entries.get(i) : null;
+                    items[i] = element != null ? region.transformItem(element) : region.fallback();
+                    rendered[i] = prerender(slots[i], items[i].renderer());
+                }
+                return new SharedPage(items, rendered);
+            }
+
+            private void stateChanged(final String key) {
+                final var stale = new HashSet<Integer>();
+                prefetched.entrySet().removeIf(entry -> entry.getValue().reads().contains(key) && stale.add(entry.getKey()));
+                // pages still being rendered only start over if they read the previous value
+                prerendering.entrySet().removeIf(entry -> entry.getValue().contains(key) && stale.add(entry.getKey()));
+                prefetching.removeAll(stale);
+                for (final var target : stale) if (isPrefetchable(target)) prefetch(target);
+            }
+
+            private void discardPrefetched() {
+                prefetchGeneration++;
+                prefetching.clear();
+                prerendering.clear();
+                prefetched.clear();
+            }
+        }
+
+        private record PrefetchedPage<T>(
+                AsyncPageSource.Slice<T> slice,
+                @Nullable Long version,
+                ActionItem[] items,
+                @Nullable Prerendered[] rendered,
+                Set<String> reads
+        ) {
+        }
+    }
 
-            final var offset = page * getPageSize();
-            final var paginated = getInterface();
-            for (var i = 0; i < paginated.contentSlots.length; i++) {
-                final var viewSlot = paginated.contentSlots[i];
-                final var contentIndex = offset + i;
-                final T element = contentIndex < content.size() ? content.get(contentIndex) : null;
-                final var actionItem = element != null ? paginated.transformItem(element) : paginated.fallback();
-                final var oldItem = paginated.items[viewSlot];
-                paginated.items[viewSlot] = new SimpleInterface.Item(
-                        paginated.contentKey, actionItem.renderer(), actionItem.action(),
-                        i, oldItem.row(), oldItem.column(), viewSlot
-                );
+    record LoadedPage<T>(int offset, AsyncPageSource.Slice<T> slice) {
+    }
+
+    record SharedPage(ActionItem[] items, SimpleInterface.Session.@Nullable Prerendered[] rendered) {
+    }
+
+    private static final class SharedPages {
+        private final Map<Integer, SharedPage> pages = new HashMap<>();
+        private long stamp = 0;
+
+        private @Nullable SharedPage get(final long stamp, final int offset) {
+            // loads that started before the content version changed only miss
+            return stamp == this.stamp ? pages.get(offset) : null;
+        }
+
+        private void put(final long stamp, final long current, final int offset, final SharedPage page) {
+            // pages rendered for an outdated version don't replace the pages of the current one
+            if (stamp != current) return;
+            if (stamp != this.stamp) {
+                // pages rendered for a previous content version are never requested again
+                pages.clear();
+                this.stamp = stamp;
             }
+            pages.put(offset, page);
         }
     }
 
     static final class Builder<T> implements PaginatedInterface.Builder<T> {
         private final SimpleInterface.Builder template;
-        private @Nullable Character contentKey;
-        private @Nullable Supplier<? extends Collection<T>> contentSupplier;
-        private @Nullable Function<T, ActionItem> itemFunction;
-        private ActionItem fallback = new ActionItem(context -> ItemStack.of(Material.AIR), context -> {
-        });
+        private final SimpleContentRegion.Builder<T> content = new SimpleContentRegion.Builder<>();
+        private final List<SimpleContentRegion<?>> regions = new ArrayList<>();
 
         Builder(final Interface.Builder template) {
             this.template = (SimpleInterface.Builder) template;
@@ -161,44 +730,110 @@ final class SimplePaginatedInterface<T> extends SimpleInterface implements Pagin
 
         @Override
         public PaginatedInterface.Builder<T> mask(final char key) {
-            this.contentKey = key;
+            content.mask(key);
             return this;
         }
 
         @Override
         public PaginatedInterface.Builder<T> content(final Supplier<? extends Collection<T>> supplier) {
-            this.contentSupplier = supplier;
+            content.content(supplier);
             return this;
         }
 
         @Override
         public PaginatedInterface.Builder<T> content(final Collection<T> collection) {
-            return content(() -> collection);
+            content.content(collection);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> content(final PageSource<T> source) {
+            content.content(source);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> content(final AsyncPageSource<T> source) {
+            content.content(source);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> content(final CursorSource<T, ?> source) {
+            content.content(source);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> content(final ObservableContent<T> content) {
+            this.content.content(content);
+            return this;
         }
 
         @Override
         public PaginatedInterface.Builder<T> transformer(final Function<T, ActionItem> function) {
-            this.itemFunction = function;
+            content.transformer(function);
             return this;
         }
 
         @Override
         public PaginatedInterface.Builder<T> fallback(final ActionItem fallback) {
-            this.fallback = fallback;
+            content.fallback(fallback);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> contentVersion(final LongSupplier version) {
+            content.contentVersion(version);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> prefetch(final int depth) throws IllegalArgumentException {
+            content.prefetch(depth);
             return this;
         }
 
         @Override
-        public PaginatedInterface<T> build(final JavaPlugin plugin) {
-            Preconditions.checkState(contentKey != null, "Content mask key not set");
-            Preconditions.checkState(contentSupplier != null, "Content not set");
-            Preconditions.checkState(itemFunction != null, "Content mapping function not set");
-            template.slot(contentKey, fallback);
-            return new SimplePaginatedInterface<>(plugin, template.build(), contentKey, contentSupplier, itemFunction, fallback);
+        public PaginatedInterface.Builder<T> transformCache(final int maximumSize) throws IllegalArgumentException {
+            content.transformCache(maximumSize);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> transformCache(final int maximumSize, final Function<? super T, ?> keyFunction) throws IllegalArgumentException {
+            content.transformCache(maximumSize, keyFunction);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> sharePages() {
+            content.sharePages();
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface.Builder<T> region(final ContentRegion<?> region) {
+            regions.add((SimpleContentRegion<?>) region);
+            return this;
+        }
+
+        @Override
+        public PaginatedInterface<T> build(final JavaPlugin plugin) throws IllegalStateException {
+            final var content = this.content.build();
+            final var regions = new ArrayList<SimpleContentRegion<?>>(this.regions.size() + 1);
+            regions.add(content);
+            regions.addAll(this.regions);
+            final var keys = new HashSet<Character>();
+            for (final var region : regions) {
+                Preconditions.checkState(keys.add(region.contentKey), "Content mask key used more than once: %s", region.contentKey);
+                template.slot(region.contentKey, region.fallback());
+            }
+            return new SimplePaginatedInterface<>(plugin, template.build(), content, List.copyOf(regions));
         }
 
         @Override
-        public PaginatedInterface<T> build() {
+        public PaginatedInterface<T> build() throws IllegalStateException {
             return build(JavaPlugin.getProvidingPlugin(SimplePaginatedInterface.class));
         }
     }
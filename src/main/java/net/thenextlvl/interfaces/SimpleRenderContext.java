@@ -3,7 +3,9 @@ package net.thenextlvl.interfaces;
 import org.bukkit.entity.Player;
 import org.jspecify.annotations.Nullable;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -14,6 +16,8 @@ non-sealed class SimpleRenderContext implements RenderContext {
     private final int column;
     private final int slot;
 
+    private @Nullable Set<String> reads = null;
+
     public SimpleRenderContext(
             final InterfaceSession session,
             final int index,
@@ -34,10 +38,19 @@ non-sealed class SimpleRenderContext implements RenderContext {
     }
 
     @Override
+    @SuppressWarnings("rawtypes")
     public Optional<PaginatedSession> paginatedSession() {
         return session instanceof final PaginatedSession paginated ? Optional.of(paginated) : Optional.empty();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<PaginatedSession<T>> paginatedSession(final PaginatedInterface<T> paginatedInterface) {
+        // the session of the given interface pages through entries of its type
+        if (session.getInterface() != paginatedInterface) return Optional.empty();
+        return Optional.of((PaginatedSession<T>) session);
+    }
+
     @Override
     public Player player() {
         return session.player();
@@ -63,13 +76,24 @@ non-sealed class SimpleRenderContext implements RenderContext {
         return slot;
     }
 
+    Set<String> reads() {
+        return reads != null ? reads : Set.of();
+    }
+
+    private void read(final String key) {
+        if (reads == null) reads = new HashSet<>();
+        reads.add(key);
+    }
+
     @Override
     public @Nullable <T> T getState(final String key, final Class<T> type, @Nullable final T fallback) {
+        read(key);
         return session.getState(key, type, fallback);
     }
 
     @Override
     public <T> Optional<T> getState(final String key, final Class<T> type) {
+        read(key);
         return session.getState(key, type);
     }
 
@@ -105,6 +129,7 @@ non-sealed class SimpleRenderContext implements RenderContext {
 
     @Override
     public boolean hasState(final String key) {
+        read(key);
         return session.hasState(key);
     }
 }
@@ -0,0 +1,30 @@
+package net.thenextlvl.interfaces;
+
+import org.bukkit.inventory.ItemStack;
+
+final class SimpleRenderer implements Renderer {
+    private final Renderer renderer;
+    private final boolean async;
+    private final RenderScope scope;
+
+    SimpleRenderer(final Renderer renderer, final boolean async, final RenderScope scope) {
+        this.renderer = renderer;
+        this.async = async;
+        this.scope = scope;
+    }
+
+    @Override
+    public ItemStack render(final RenderContext context) {
+        return renderer.render(context);
+    }
+
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    @Override
+    public RenderScope scope() {
+        return scope;
+    }
+}
@@ -3,7 +3,10 @@ package net.thenextlvl.interfaces;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -19,9 +22,12 @@ sealed class SimpleStateHolder implements StateHolder permits SimpleInterface.Se
             Map.entry(double.class, Double.class)
     );
     protected final Map<String, @Nullable Object> state;
+    final SharedState shared;
 
-    protected SimpleStateHolder(final Map<String, @Nullable Object> state) {
-        this.state = state;
+    protected SimpleStateHolder(final SharedState shared) {
+        this.shared = shared;
+        this.state = shared.values;
+        shared.holders.add(this);
     }
 
     @Override
@@ -45,41 +51,73 @@ sealed class SimpleStateHolder implements StateHolder permits SimpleInterface.Se
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable <T> T setState(final String key, @Nullable final T value) {
-        return (T) state.put(key, value);
+        final var previous = (T) state.put(key, value);
+        if (!Objects.equals(previous, value)) changed(key);
+        return previous;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable <T> T setStateIfAbsent(final String key, @Nullable final T value) {
-        return (T) state.putIfAbsent(key, value);
+        final var previous = (T) state.putIfAbsent(key, value);
+        if (previous == null && value != null) changed(key);
+        return previous;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable <T> T removeState(final String key) {
-        return (T) state.remove(key);
+        final var previous = (T) state.remove(key);
+        if (previous != null) changed(key);
+        return previous;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable <T> T computeState(final String key, final BiFunction<String, @Nullable T, @Nullable T> remappingFunction) {
-        return (T) state.compute(key, (s, o) -> remappingFunction.apply(s, (T) o));
+        final var previous = state.get(key);
+        final var value = (T) state.compute(key, (s, o) -> remappingFunction.apply(s, (T) o));
+        if (!Objects.equals(previous, value)) changed(key);
+        return value;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable <T> T computeStateIfAbsent(final String key, final Function<String, @Nullable T> remappingFunction) {
-        return (T) state.computeIfAbsent(key, remappingFunction);
+        final var previous = state.get(key);
+        final var value = (T) state.computeIfAbsent(key, remappingFunction);
+        if (!Objects.equals(previous, value)) changed(key);
+        return value;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable <T> T computeStateIfPresent(final String key, final BiFunction<String, T, @Nullable T> remappingFunction) {
-        return (T) state.computeIfPresent(key, (s, o) -> remappingFunction.apply(s, (T) o));
+        final var previous = state.get(key);
+        final var value = (T) state.computeIfPresent(key, (s, o) -> remappingFunction.apply(s, (T) o));
+        if (!Objects.equals(previous, value)) changed(key);
+        return value;
     }
 
     @Override
     public boolean hasState(final String key) {
         return state.containsKey(key);
     }
+
+    void detachState() {
+        shared.holders.remove(this);
+    }
+
+    private void changed(final String key) {
+        // sessions opened with the state of another session read the same values
+        shared.holders.forEach(holder -> holder.stateChanged(key));
+    }
+
+    protected void stateChanged(final String key) {
+    }
+
+    static final class SharedState {
+        private final Map<String, @Nullable Object> values = new ConcurrentHashMap<>();
+        private final Set<SimpleStateHolder> holders = ConcurrentHashMap.newKeySet();
+    }
 }
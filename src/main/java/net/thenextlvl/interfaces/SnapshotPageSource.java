@@ -0,0 +1,64 @@
+package net.thenextlvl.interfaces;
+
+import org.bukkit.Bukkit;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A page source sharing one immutable copy of the supplied collection across all sessions of an interface.
+ * <p>
+ * The copy is taken again once the content version changes, or on the next tick if the content is not versioned.
+ * Copies of content that is not versioned are also discarded when a session is refreshed explicitly.
+ */
+final class SnapshotPageSource<T> implements PageSource<T> {
+    private final Supplier<? extends Collection<? extends T>> supplier;
+    private final @Nullable LongSupplier version;
+    private volatile @Nullable Snapshot<T> snapshot = null;
+
+    SnapshotPageSource(final Supplier<? extends Collection<? extends T>> supplier, final @Nullable LongSupplier version) {
+        this.supplier = supplier;
+        this.version = version;
+    }
+
+    List<T> entries() {
+        final var stamp = version != null ? version.getAsLong() : Bukkit.getCurrentTick();
+        final var snapshot = this.snapshot;
+        if (snapshot != null && snapshot.stamp() == stamp) return snapshot.entries();
+        final var entries = List.<T>copyOf(supplier.get());
+        this.snapshot = new Snapshot<>(stamp, entries);
+        return entries;
+    }
+
+    void discard() {
+        // versioned copies only change along with the version
+        if (version == null) snapshot = null;
+    }
+
+    @Override
+    public int size() {
+        return entries().size();
+    }
+
+    @Override
+    public List<T> fetch(final int offset, final int limit) {
+        return fetch(entries(), offset, limit);
+    }
+
+    AsyncPageSource.Slice<T> slice(final int offset, final int limit) {
+        // size and entries of a window come from the same snapshot
+        final var entries = entries();
+        return new AsyncPageSource.Slice<>(fetch(entries, offset, limit), entries.size());
+    }
+
+    private static <T> List<T> fetch(final List<T> entries, final int offset, final int limit) {
+        if (offset >= entries.size()) return List.of();
+        return entries.subList(offset, Math.min(entries.size(), offset + limit));
+    }
+
+    private record Snapshot<T>(long stamp, List<T> entries) {
+    }
+}
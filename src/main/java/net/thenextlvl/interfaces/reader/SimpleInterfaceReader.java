@@ -19,7 +19,9 @@ import net.thenextlvl.interfaces.Interface;
 import net.thenextlvl.interfaces.InterfaceSession;
 import net.thenextlvl.interfaces.Layout;
 import net.thenextlvl.interfaces.PaginatedInterface;
+import net.thenextlvl.interfaces.RefreshMode;
 import net.thenextlvl.interfaces.RenderContext;
+import net.thenextlvl.interfaces.RenderScope;
 import net.thenextlvl.interfaces.Renderer;
 import net.thenextlvl.interfaces.reader.action.BroadcastActionParser;
 import net.thenextlvl.interfaces.reader.action.CloseInterfaceActionParser;
@@ -56,6 +58,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -289,7 +292,7 @@ final class SimpleInterfaceReader implements InterfaceReader, ParserContext {
                         });
             } catch (final ParserException e) {
                 logger.warn("Failed to parse item '{}': {}", entry.getKey(), e.getMessage());
-                layout.mask(character, context -> ItemStack.of(Material.AIR));
+                layout.mask(character, ItemStack.of(Material.AIR));
             }
         }
 
@@ -300,6 +303,13 @@ final class SimpleInterfaceReader implements InterfaceReader, ParserContext {
                 .flatMap(this::readActions)
                 .map(actions -> (BiConsumer<InterfaceSession, Reason>) (session, reason) -> actions.accept(session))
                 .ifPresent(builder::onClose);
+        get(object, "refresh_mode", JsonPrimitive.class).map(JsonPrimitive::getAsString).ifPresent(mode -> {
+            try {
+                builder.refreshMode(RefreshMode.valueOf(mode.toUpperCase(Locale.ROOT)));
+            } catch (final IllegalArgumentException e) {
+                logger.warn("Invalid refresh mode '{}', expected one of {}", mode, List.of(RefreshMode.values()));
+            }
+        });
 
         return builder.layout(layout.build());
     }
@@ -543,7 +553,7 @@ final class SimpleInterfaceReader implements InterfaceReader, ParserContext {
         return parseDynamicItems(object).<Renderer>map(function -> context -> {
             final var clone = itemStack.clone();
             return function.apply(clone, context);
-        }).orElseGet(() -> context -> itemStack.clone());
+        }).orElseGet(() -> Renderer.scoped(RenderScope.CONSTANT, context -> itemStack.clone()));
     }
 
     private Optional<ClickAction> readClickActions(final JsonArray array) {